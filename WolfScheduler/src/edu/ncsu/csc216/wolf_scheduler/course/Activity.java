@@ -13,6 +13,8 @@ public abstract class Activity implements Conflict {
 	private String title;
 	/** Course's meeting days */
 	private String meetingDays;
+	/** Course's meeting days with bit i set if the Activity meets on DAYS.charAt(i) */
+	private int meetingDaysMask;
 	/** Course's starting time */
 	private int startTime;
 	/** Course's ending time */
@@ -21,6 +23,14 @@ public abstract class Activity implements Conflict {
 	private static final int UPPER_HOUR = 24;
 	/** Minimum number of hours */
 	private static final int UPPER_MINUTE = 60;
+	/** Days of the week in the order of their bits in a day mask */
+	private static final String DAYS = "MTWHFSU";
+	/** Number of days in a week, and so of bits in a day mask */
+	public static final int DAYS_IN_WEEK = DAYS.length();
+	/** Day mask of the weekdays M, T, W, H, and F */
+	protected static final int WEEKDAY_MASK = 0x1F;
+	/** Returned by toDayMask() for meeting days that are not distinct days */
+	public static final int INVALID_DAY_MASK = -1;
 
 	/**
 	 * Constructor for the Abstract class Activity. Won't be directly used
@@ -70,13 +80,24 @@ public abstract class Activity implements Conflict {
 	public void setTitle(String title) {
 
 		// Checks if title is empty or null
-		if (title == null || "".equals(title)) {
+		if (!isValidTitle(title)) {
 			throw new IllegalArgumentException("Invalid title.");
 		}
 
 		this.title = title;
 	}
 
+	/**
+	 * Checks if title is a valid title for an Activity without throwing an
+	 * exception
+	 * 
+	 * @param title the title to check
+	 * @return true if title is not null or empty
+	 */
+	protected static boolean isValidTitle(String title) {
+		return title != null && !"".equals(title);
+	}
+
 	/**
 	 * Returns the Course's meeting days
 	 * 
@@ -105,30 +126,60 @@ public abstract class Activity implements Conflict {
 		if (meetingDays == null || "".equals(meetingDays)) {
 			throw new IllegalArgumentException("Invalid meeting days and times.");
 		}
-		
-			int startHours = startTime / 100;
-			int startMins = startTime % 100;
-			int endHours = endTime / 100;
-			int endMins = endTime % 100;
+		if (!isValidTime(startTime) || !isValidTime(endTime)) {
+			throw new IllegalArgumentException("Invalid meeting days and times.");
+		}
 
-			if (startHours < 0 || startHours >= UPPER_HOUR) {
-				throw new IllegalArgumentException("Invalid meeting days and times.");
-			}
-			if (startMins < 0 || startMins >= UPPER_MINUTE) {
-				throw new IllegalArgumentException("Invalid meeting days and times.");
-			}
-			if (endHours < 0 || endHours >= UPPER_HOUR) {
-				throw new IllegalArgumentException("Invalid meeting days and times.");
-			}
-			if (endMins < 0 || endMins >= UPPER_MINUTE) {
-				throw new IllegalArgumentException("Invalid meeting days and times.");
+		this.meetingDays = meetingDays;
+		// Arranged ("A") Activities meet on no days
+		this.meetingDaysMask = Math.max(0, toDayMask(meetingDays));
+		this.startTime = startTime;
+		this.endTime = endTime;
+	}
+
+	/**
+	 * Returns the index of a day of the week, which is also its bit in a day mask
+	 * 
+	 * @param day one of M, T, W, H, F, S, and U
+	 * @return the index of the day, or -1 if day is not a day of the week
+	 */
+	public static int dayIndex(char day) {
+		return DAYS.indexOf(day);
+	}
+
+	/**
+	 * Converts meeting days to a day mask, with bit i set for the day at index i
+	 * of "MTWHFSU"
+	 * 
+	 * @param meetingDays the meeting days to convert
+	 * @return the day mask, or INVALID_DAY_MASK if a character is not a day or a
+	 *         day appears more than once
+	 */
+	public static int toDayMask(String meetingDays) {
+		int mask = 0;
+		for (int i = 0; i < meetingDays.length(); i++) {
+			int day = DAYS.indexOf(meetingDays.charAt(i));
+			if (day < 0 || (mask & 1 << day) != 0) {
+				return INVALID_DAY_MASK;
 			}
+			mask |= 1 << day;
+		}
+		return mask;
+	}
 
-			this.meetingDays = meetingDays;
-			this.startTime = startTime;
-			this.endTime = endTime;
+	/**
+	 * Checks if time is a valid military time without throwing an exception
+	 * 
+	 * @param time the time to check
+	 * @return true if the hours are between 0 and 23 and the minutes are between 0
+	 *         and 59
+	 */
+	protected static boolean isValidTime(int time) {
+		int hours = time / 100;
+		int mins = time % 100;
+
+		return hours >= 0 && hours < UPPER_HOUR && mins >= 0 && mins < UPPER_MINUTE;
 	}
-	
 
 	/**
 	 * Converts military time of startTime and endTime to conventional time Creates
@@ -188,6 +239,17 @@ public abstract class Activity implements Conflict {
 
 	}
 
+	/**
+	 * Returns the meeting days as a day mask, with the bit of each day set, so
+	 * callers can test days with bit operations instead of parsing
+	 * getMeetingDays()
+	 * 
+	 * @return the day mask, which is 0 for arranged Activities
+	 */
+	public int getMeetingDaysMask() {
+		return meetingDaysMask;
+	}
+
 	/**
 	 * Returns the Course's start time
 	 * 
@@ -224,42 +286,40 @@ public abstract class Activity implements Conflict {
 	 */
 	@Override
 	public void checkConflict(Activity possibleConflictingActivity) throws ConflictException {
-		if (!(this == null || possibleConflictingActivity == null)
-				&& !(this.getStartTime() == 0 || possibleConflictingActivity.getStartTime() == 0)) {
-
-			for (int i = 0; i < this.getMeetingDays().length(); i++) {
-				for (int j = 0; j < possibleConflictingActivity.getMeetingDays().length(); j++) {
-					if (this.getMeetingDays().charAt(i) == possibleConflictingActivity.getMeetingDays().charAt(j)) {
-
-						// Direct time overlap with this.starttime
-						if (this.getStartTime() == possibleConflictingActivity.getStartTime()
-								|| this.getStartTime() == possibleConflictingActivity.getEndTime()) {
-							throw new ConflictException();
-						}
-						// Direct time overlap with this.endtime
-						if (this.getEndTime() == possibleConflictingActivity.getStartTime()
-								|| this.getEndTime() == possibleConflictingActivity.getEndTime()) {
-							throw new ConflictException();
-						}
-						// Activity 2 starts between this
-						if (this.getStartTime() <= possibleConflictingActivity.getStartTime()
-								&& this.getEndTime() >= possibleConflictingActivity.getStartTime()) {
-							throw new ConflictException();
-						}
-						// Activity 2 ends between this
-						if (this.getStartTime() <= possibleConflictingActivity.getEndTime()
-								&& this.getEndTime() >= possibleConflictingActivity.getEndTime()) {
-							throw new ConflictException();
-						}
-						// Activity 1 is encompassed by Activity 2
-						if (this.getStartTime() >= possibleConflictingActivity.getStartTime()
-								&& this.getEndTime() <= possibleConflictingActivity.getEndTime()) {
-							throw new ConflictException();
-						}
-					}
-				}
-			}
+		if (conflictsWith(possibleConflictingActivity)) {
+			throw new ConflictException();
+		}
+	}
+
+	/**
+	 * Checks if the "this" Activity instance and possibleConflictingActivity share a
+	 * day and overlap in time, without throwing an exception. Times include both
+	 * the start and the end time, and Activities with a start time of 0, such as
+	 * arranged Courses, never conflict.
+	 * 
+	 * @param possibleConflictingActivity the activity that could be conflicting with "this"
+	 * @return true if start times overlap, end times overlap, or if the activity is during "this"
+	 */
+	@Override
+	public boolean conflictsWith(Activity possibleConflictingActivity) {
+		if (possibleConflictingActivity == null || this.getStartTime() == 0
+				|| possibleConflictingActivity.getStartTime() == 0) {
+			return false;
+		}
+		if ((this.meetingDaysMask & possibleConflictingActivity.meetingDaysMask) == 0) {
+			return false;
+		}
+		int start = this.getStartTime();
+		int end = this.getEndTime();
+		int otherStart = possibleConflictingActivity.getStartTime();
+		int otherEnd = possibleConflictingActivity.getEndTime();
+		// Direct time overlap with this.starttime or this.endtime
+		if (start == otherStart || start == otherEnd || end == otherStart || end == otherEnd) {
+			return true;
 		}
+		// Activity 2 starts or ends between this, or Activity 1 is encompassed by Activity 2
+		return start <= otherStart && end >= otherStart || start <= otherEnd && end >= otherEnd
+				|| start >= otherStart && end <= otherEnd;
 	}
 	
 	/**
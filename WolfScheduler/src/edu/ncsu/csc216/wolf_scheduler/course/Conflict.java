@@ -19,4 +19,13 @@ public interface Conflict {
 	 */
 	void checkConflict(Activity possibleConflictingActivity) throws ConflictException;
 
+	/**
+	 * Checks the conflict in schedule without throwing an exception, for callers
+	 * that check many Activities and only need the answer
+	 *
+	 * @param possibleConflictingActivity The activity that is being compared for scheduling conflict
+	 * @return true exactly when checkConflict() would throw a ConflictException
+	 */
+	boolean conflictsWith(Activity possibleConflictingActivity);
+
 }
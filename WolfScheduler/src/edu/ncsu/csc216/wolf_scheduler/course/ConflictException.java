@@ -15,15 +15,11 @@ public class ConflictException extends Exception {
 	/** ID Used for serialization */
 	private static final long serialVersionUID = 1L;
 
-	/** message passed with the exception */
-	private static String message = "";
-	
-	
 	/**
 	 * ConflictException constructor with a defaulted message 
 	 */
 	public ConflictException() {
-		 message = "Schedule conflict.";
+		this("Schedule conflict.");
 	}
 	
 	/**
@@ -32,15 +28,6 @@ public class ConflictException extends Exception {
 	 * @param message the string that is outputed with the ConflictException
 	 */
 	public ConflictException (String message) {
-		ConflictException.message = message;
-	}
-	
-	/**
-	 * Returns the message of the ConflictException object
-	 * 
-	 * @return message the message that is associated with the ConflictException
-	 */
-	public String getMessage() {
-		return message;
+		super(message);
 	}
 }
@@ -94,15 +94,29 @@ public class Course extends Activity {
 	 *                                  letters/digits
 	 */
 	private void setName(String name) {
+		if (!isValidName(name)) {
+			throw new IllegalArgumentException("Invalid course name.");
+		}
+
+		this.name = name;
+	}
 
-		// Throws exception if name is null
+	/**
+	 * Checks if name is a valid Course name without throwing an exception
+	 * 
+	 * @param name the name to check
+	 * @return true if name is 1 to 4 letters, a space, and 3 digits
+	 */
+	private static boolean isValidName(String name) {
+
+		// Invalid if name is null
 		if (name == null) {
-			throw new IllegalArgumentException("Invalid course name.");
+			return false;
 		}
 
-		// Throws exception is name length is <5 or >8 characters or is empty
+		// Invalid if name length is <5 or >8 characters or is empty
 		if (name.length() < MIN_NAME_LENGTH || name.length() > MAX_NAME_LENGTH) {
-			throw new IllegalArgumentException("Invalid course name.");
+			return false;
 		}
 
 		// Initialized counters and boolean
@@ -118,28 +132,24 @@ public class Course extends Activity {
 				} else if (name.charAt(i) == ' ') {
 					flag = true;
 				} else {
-					throw new IllegalArgumentException("Invalid course name.");
+					return false;
 				}
 			} else if (flag) {
 				if (Character.isDigit(name.charAt(i))) {
 					numDigits++;
 				} else {
-					throw new IllegalArgumentException("Invalid course name.");
+					return false;
 				}
 			}
 		}
 
 		// Checks if numLetters is valid
 		if (numLetters < MIN_LETTER_COUNT || numLetters > MAX_LETTER_COUNT) {
-			throw new IllegalArgumentException("Invalid course name.");
+			return false;
 		}
 
 		// Checks if numDigits is valid
-		if (numDigits != DIGIT_COUNT) {
-			throw new IllegalArgumentException("Invalid course name.");
-		}
-
-		this.name = name;
+		return numDigits == DIGIT_COUNT;
 	}
 
 	/**
@@ -161,17 +171,32 @@ public class Course extends Activity {
 	 */
 	public void setSection(String section) {
 
-		if ("".equals(section) || section == null || section.length() != SECTION_LENGTH) {
+		if (!isValidSection(section)) {
 			throw new IllegalArgumentException("Invalid section.");
 		}
 
+		this.section = section;
+	}
+
+	/**
+	 * Checks if section is a valid Course section without throwing an exception
+	 * 
+	 * @param section the section to check
+	 * @return true if section is 3 digits
+	 */
+	private static boolean isValidSection(String section) {
+
+		if ("".equals(section) || section == null || section.length() != SECTION_LENGTH) {
+			return false;
+		}
+
 		for (int i = 0; i < section.length(); i++) {
 			if (!Character.isDigit(section.charAt(i))) {
-				throw new IllegalArgumentException("Invalid section.");
+				return false;
 			}
 		}
 
-		this.section = section;
+		return true;
 	}
 
 	/**
@@ -192,13 +217,24 @@ public class Course extends Activity {
 	 */
 	public void setCredits(int credits) {
 		// Checks if credits is <1 or >5
-		if (credits < MIN_CREDITS || credits > MAX_CREDITS) {
+		if (!isValidCredits(credits)) {
 			throw new IllegalArgumentException("Invalid credits.");
 		}
 
 		this.credits = credits;
 	}
 
+	/**
+	 * Checks if credits is a valid number of credit hours without throwing an
+	 * exception
+	 * 
+	 * @param credits the credits to check
+	 * @return true if credits is between 1 and 5
+	 */
+	private static boolean isValidCredits(int credits) {
+		return credits >= MIN_CREDITS && credits <= MAX_CREDITS;
+	}
+
 	/**
 	 * Returns the Course's instructorID
 	 * 
@@ -216,12 +252,23 @@ public class Course extends Activity {
 	 */
 	public void setInstructorId(String instructorId) {
 		// Checks is instructor Id is null or empty
-		if (instructorId == null || "".equals(instructorId)) {
+		if (!isValidInstructorId(instructorId)) {
 			throw new IllegalArgumentException("Invalid instructor id.");
 		}
 
 		this.instructorId = instructorId;
 	}
+
+	/**
+	 * Checks if instructorId is a valid instructor id without throwing an
+	 * exception
+	 * 
+	 * @param instructorId the instructor id to check
+	 * @return true if instructorId is not null or empty
+	 */
+	private static boolean isValidInstructorId(String instructorId) {
+		return instructorId != null && !"".equals(instructorId);
+	}
 	
 	/**
 	 * Creates a String of the meeting days and times. Utilizes the super class method as well
@@ -233,54 +280,83 @@ public class Course extends Activity {
 	 */
 	@Override
 	public void setMeetingDaysAndTime(String meetingDays, int startTime, int endTime) {
-		if (meetingDays == null || "".equals(meetingDays)) {
+		if (!isValidMeetingDaysAndTime(meetingDays, startTime, endTime)) {
 			throw new IllegalArgumentException("Invalid meeting days and times.");
 		}
+
+		super.setMeetingDaysAndTime(meetingDays, startTime, endTime);
+	}
+
+	/**
+	 * Checks if the meeting days and times are valid for a Course without throwing
+	 * an exception. Arranged Courses ("A") must have start and end times of 0.
+	 * Other Courses meet on distinct weekdays (M, T, W, H, F), with a start time
+	 * no later than the end time.
+	 * 
+	 * @param meetingDays days the Course meets
+	 * @param startTime start time of the Course
+	 * @param endTime end time of the Course
+	 * @return true if a Course can meet on the given days and times
+	 */
+	private static boolean isValidMeetingDaysAndTime(String meetingDays, int startTime, int endTime) {
+		if (meetingDays == null || "".equals(meetingDays)) {
+			return false;
+		}
 		
 		if ("A".equals(meetingDays)) {
-			if (startTime != 0 || endTime != 0) {
-				throw new IllegalArgumentException("Invalid meeting days and times.");
-			}	
-			super.setMeetingDaysAndTime(meetingDays, 0, 0);
+			return startTime == 0 && endTime == 0;
 		}
-		else {
-			int mCounter = 0;
-			int tCounter = 0;
-			int wCounter = 0;
-			int hCounter = 0;
-			int fCounter = 0;
-
-			for (int i = 0; i < meetingDays.length(); i++) {
-				if (meetingDays.charAt(i) == 'M') {
-					mCounter++;
-				} else if (meetingDays.charAt(i) == 'T') {
-					tCounter++;
-				} else if (meetingDays.charAt(i) == 'W') {
-					wCounter++;
-				} else if (meetingDays.charAt(i) == 'H') {
-					hCounter++;
-				} else if (meetingDays.charAt(i) == 'F') {
-					fCounter++;
-				} else {
-					throw new IllegalArgumentException("Invalid meeting days and times.");
-				}
-			}
 
-			if (mCounter > 1 || tCounter > 1 || wCounter > 1 || hCounter > 1 || fCounter > 1) {
-				throw new IllegalArgumentException("Invalid meeting days and times.");
-			}
-			
-			if (startTime > endTime) {
-				throw new IllegalArgumentException("Invalid meeting days and times.");
-			}
-			
-			super.setMeetingDaysAndTime(meetingDays, startTime, endTime);
-			
-			
-			
+		int mask = toDayMask(meetingDays);
+		if (mask == INVALID_DAY_MASK || (mask & ~WEEKDAY_MASK) != 0) {
+			return false;
 		}
 		
+		if (startTime > endTime) {
+			return false;
+		}
+		
+		return isValidTime(startTime) && isValidTime(endTime);
+	}
 
+	/**
+	 * Checks if a Course can be constructed from the given values without
+	 * throwing an exception. Lets callers such as catalog loaders reject invalid
+	 * records without paying for an IllegalArgumentException. The fields are
+	 * checked in the same order as the constructor sets them.
+	 * 
+	 * @param name         name of Course
+	 * @param title        title of Course
+	 * @param section      section of Course
+	 * @param credits      credit hours for Course
+	 * @param instructorId instructor's ID for Course
+	 * @param meetingDays  meeting days for Course as a series of chars
+	 * @param startTime    start time of Course
+	 * @param endTime      end time of Course
+	 * @return null if the values are valid, otherwise the message of the
+	 *         IllegalArgumentException the constructor would throw
+	 */
+	public static String validate(String name, String title, String section, int credits, String instructorId,
+			String meetingDays, int startTime, int endTime) {
+		if (!isValidTitle(title)) {
+			return "Invalid title.";
+		}
+		if (!isValidMeetingDaysAndTime(meetingDays, startTime, endTime)) {
+			return "Invalid meeting days and times.";
+		}
+		if (!isValidName(name)) {
+			return "Invalid course name.";
+		}
+		if (!isValidSection(section)) {
+			return "Invalid section.";
+		}
+		if (!isValidCredits(credits)) {
+			return "Invalid credits.";
+		}
+		if (!isValidInstructorId(instructorId)) {
+			return "Invalid instructor id.";
+		}
+		return null;
 	}
 
 	/**
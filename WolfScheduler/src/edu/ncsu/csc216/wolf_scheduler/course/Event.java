@@ -65,36 +65,8 @@ public class Event extends Activity {
 		if (meetingDays == null || "".equals(meetingDays)) {
 			throw new IllegalArgumentException("Invalid meeting days and times.");
 		}
-		int mCounter = 0;
-		int tCounter = 0;
-		int wCounter = 0;
-		int hCounter = 0;
-		int fCounter = 0;
-		int sCounter = 0;
-		int uCounter = 0;
 
-		for (int i = 0; i < meetingDays.length(); i++) {
-			if (meetingDays.charAt(i) == 'M') {
-				mCounter++;
-			} else if (meetingDays.charAt(i) == 'T') {
-				tCounter++;
-			} else if (meetingDays.charAt(i) == 'W') {
-				wCounter++;
-			} else if (meetingDays.charAt(i) == 'H') {
-				hCounter++;
-			} else if (meetingDays.charAt(i) == 'F') {
-				fCounter++;
-			} else if (meetingDays.charAt(i) == 'S') {
-				sCounter++;
-			} else if (meetingDays.charAt(i) == 'U') {
-				uCounter++;
-			} else {
-				throw new IllegalArgumentException("Invalid meeting days and times.");
-			}
-		}
-
-		if (mCounter > 1 || tCounter > 1 || wCounter > 1 || hCounter > 1 || fCounter > 1 || 
-				sCounter > 1 || uCounter > 1) {
+		if (toDayMask(meetingDays) == INVALID_DAY_MASK) {
 			throw new IllegalArgumentException("Invalid meeting days and times.");
 		}
 
@@ -0,0 +1,153 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Summary of a catalog load: how many lines became Courses, how many were
+ * rejected as invalid, how many were duplicates of a Course already in the
+ * catalog, and the line number and reason for every rejected line.
+ *
+ * @author Yash Agarwal
+ */
+public class CatalogLoadReport {
+
+	/** Reason given for a line that is missing a field */
+	public static final String MISSING_FIELD = "Missing field.";
+	/** Reason given for a line with a field that should be a number but is not */
+	public static final String INVALID_NUMBER = "Invalid number.";
+	/** Reason given for a line with more fields than a Course has */
+	public static final String EXTRA_FIELD = "Extra field.";
+
+	/** Number of lines that became Courses in the catalog */
+	private int acceptedCount;
+	/** Number of lines that were duplicates of a Course already in the catalog */
+	private int duplicateCount;
+	/** Lines that were rejected, in file order */
+	private ArrayList<RejectedLine> rejectedLines;
+
+	/**
+	 * Constructs an empty CatalogLoadReport
+	 */
+	public CatalogLoadReport() {
+		rejectedLines = new ArrayList<RejectedLine>();
+	}
+
+	/**
+	 * Returns the number of lines that became Courses in the catalog
+	 *
+	 * @return the number of accepted lines
+	 */
+	public int getAcceptedCount() {
+		return acceptedCount;
+	}
+
+	/**
+	 * Returns the number of lines that were rejected as invalid
+	 *
+	 * @return the number of rejected lines
+	 */
+	public int getRejectedCount() {
+		return rejectedLines.size();
+	}
+
+	/**
+	 * Returns the number of valid lines that were dropped because a Course with
+	 * the same name and section was already in the catalog
+	 *
+	 * @return the number of duplicate lines
+	 */
+	public int getDuplicateCount() {
+		return duplicateCount;
+	}
+
+	/**
+	 * Returns the rejected lines in file order
+	 *
+	 * @return unmodifiable list of the rejected lines
+	 */
+	public List<RejectedLine> getRejectedLines() {
+		return Collections.unmodifiableList(rejectedLines);
+	}
+
+	/**
+	 * Records a line that became a Course in the catalog
+	 */
+	void accept() {
+		acceptedCount++;
+	}
+
+	/**
+	 * Records a valid line that was a duplicate of a Course in the catalog
+	 */
+	void duplicate() {
+		duplicateCount++;
+	}
+
+	/**
+	 * Records a line that was rejected as invalid
+	 *
+	 * @param lineNumber line number of the rejected line, starting at 1
+	 * @param reason     why the line was rejected
+	 */
+	void reject(int lineNumber, String reason) {
+		rejectedLines.add(new RejectedLine(lineNumber, reason));
+	}
+
+	/**
+	 * A line of a catalog file that could not be made into a Course
+	 *
+	 * @author Yash Agarwal
+	 */
+	public static class RejectedLine {
+
+		/** Line number of the line, starting at 1 */
+		private int lineNumber;
+		/** Why the line was rejected */
+		private String reason;
+
+		/**
+		 * Constructs a RejectedLine
+		 *
+		 * @param lineNumber line number of the line, starting at 1
+		 * @param reason     why the line was rejected
+		 */
+		RejectedLine(int lineNumber, String reason) {
+			this.lineNumber = lineNumber;
+			this.reason = reason;
+		}
+
+		/**
+		 * Returns the line number of the line, starting at 1
+		 *
+		 * @return the line number
+		 */
+		public int getLineNumber() {
+			return lineNumber;
+		}
+
+		/**
+		 * Returns why the line was rejected. This is either one of the reasons
+		 * defined in CatalogLoadReport or the message Course gives for an invalid
+		 * field.
+		 *
+		 * @return the reason
+		 */
+		public String getReason() {
+			return reason;
+		}
+
+		/**
+		 * Returns the line number and reason
+		 *
+		 * @return String representation of the rejected line
+		 */
+		@Override
+		public String toString() {
+			return "line " + lineNumber + " - " + reason;
+		}
+
+	}
+
+}
@@ -0,0 +1,59 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * The ways a catalog can be read from a file. Every strategy that reads Course
+ * records returns the same list of Courses for the same file and only differs
+ * in how the file is read. SNAPSHOT reads a catalog that was compiled ahead of
+ * time by CatalogSnapshotIO.
+ * 
+ * @author Yash Agarwal
+ */
+public enum CatalogLoadStrategy {
+
+	/** Reads the file on one thread through a Reader */
+	SEQUENTIAL {
+		@Override
+		public ArrayList<Course> load(String fileName) throws FileNotFoundException {
+			return CourseRecordIO.readCourseRecords(fileName);
+		}
+	},
+
+	/** Reads ranges of the file on several threads */
+	PARALLEL {
+		@Override
+		public ArrayList<Course> load(String fileName) throws FileNotFoundException {
+			return CourseRecordIO.readCourseRecordsInParallel(fileName);
+		}
+	},
+
+	/** Reads the file straight from a memory mapping */
+	MAPPED {
+		@Override
+		public ArrayList<Course> load(String fileName) throws FileNotFoundException {
+			return CourseRecordIO.readCourseRecordsMapped(fileName);
+		}
+	},
+
+	/** Reads a snapshot written by CatalogSnapshotIO instead of Course records */
+	SNAPSHOT {
+		@Override
+		public ArrayList<Course> load(String fileName) throws FileNotFoundException {
+			return CatalogSnapshotIO.readSnapshot(fileName);
+		}
+	};
+
+	/**
+	 * Reads course records from a file and generates a list of valid Courses
+	 * 
+	 * @param fileName file to read Course records from
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	public abstract ArrayList<Course> load(String fileName) throws FileNotFoundException;
+
+}
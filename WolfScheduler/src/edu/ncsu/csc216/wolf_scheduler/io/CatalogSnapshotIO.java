@@ -0,0 +1,234 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Reads and writes catalog snapshots. A snapshot is a catalog that has already
+ * been read from a file of Course records, so it holds only valid Courses with
+ * no duplicates, in catalog order. Loading a snapshot skips tokenizing, parsing
+ * ints, and looking for duplicates.
+ *
+ * A snapshot is laid out as:
+ * <ul>
+ * <li>the magic number 0x57534353 ("WSCS") and the format version</li>
+ * <li>a string table: the number of strings, then each string as its length in
+ * bytes followed by its UTF-8 bytes</li>
+ * <li>the number of Courses, then one fixed width record of eight ints per
+ * Course: the string table index of the name, title, section, instructor id,
+ * and meeting days, followed by the credits, start time, and end time</li>
+ * </ul>
+ * Every distinct string is stored once, so Courses read from the same snapshot
+ * share their repeated titles, instructor ids, and meeting days.
+ *
+ * A snapshot is not trusted. Its header and counts are checked, and every
+ * record still goes through the Course constructor and all of its setter
+ * validation, because Course has no unchecked way to be built from outside
+ * its package. A corrupt or hand edited snapshot therefore fails with an
+ * IllegalArgumentException instead of producing invalid Courses, and loading
+ * one saves only the parsing and duplicate checks, not the validation.
+ *
+ * @author Yash Agarwal
+ */
+public class CatalogSnapshotIO {
+
+	/** First four bytes of every snapshot */
+	private static final int MAGIC = 0x57534353;
+	/** Version of the snapshot format */
+	private static final int VERSION = 1;
+	/** Number of bytes in the record of one Course */
+	private static final int RECORD_BYTES = 8 * Integer.BYTES;
+	/** Most Courses to make room for before any have been read */
+	private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+	/**
+	 * Reads the file of Course records catalogFile and writes its catalog to
+	 * snapshotFile
+	 *
+	 * @param catalogFile  file of Course records to read
+	 * @param snapshotFile file to write the snapshot to
+	 * @throws FileNotFoundException if catalogFile cannot be found or read
+	 * @throws IOException           if snapshotFile cannot be written
+	 */
+	public static void compileSnapshot(String catalogFile, String snapshotFile) throws IOException {
+		writeSnapshot(snapshotFile, CourseRecordIO.readCourseRecords(catalogFile));
+	}
+
+	/**
+	 * Writes the given catalog to a snapshot file
+	 *
+	 * @param fileName file to write the snapshot to
+	 * @param catalog  Courses to write, in catalog order
+	 * @throws IOException if cannot write to file
+	 */
+	public static void writeSnapshot(String fileName, ArrayList<Course> catalog) throws IOException {
+		HashMap<String, Integer> indexes = new HashMap<String, Integer>();
+		ArrayList<String> strings = new ArrayList<String>();
+		int[] records = new int[catalog.size() * 8];
+		for (int i = 0; i < catalog.size(); i++) {
+			Course c = catalog.get(i);
+			records[i * 8] = stringIndex(c.getName(), indexes, strings);
+			records[i * 8 + 1] = stringIndex(c.getTitle(), indexes, strings);
+			records[i * 8 + 2] = stringIndex(c.getSection(), indexes, strings);
+			records[i * 8 + 3] = stringIndex(c.getInstructorId(), indexes, strings);
+			records[i * 8 + 4] = stringIndex(c.getMeetingDays(), indexes, strings);
+			records[i * 8 + 5] = c.getCredits();
+			records[i * 8 + 6] = c.getStartTime();
+			records[i * 8 + 7] = c.getEndTime();
+		}
+
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fileName)));
+		try {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(strings.size());
+			for (String s : strings) {
+				byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+			out.writeInt(catalog.size());
+			for (int value : records) {
+				out.writeInt(value);
+			}
+		} finally {
+			out.close();
+		}
+	}
+
+	/**
+	 * Reads a catalog from a snapshot file in a single pass
+	 *
+	 * @param fileName file to read the snapshot from
+	 * @return the catalog of Courses in catalog order
+	 * @throws FileNotFoundException    if the file cannot be found or read
+	 * @throws IllegalArgumentException if the file is not a valid snapshot
+	 */
+	public static ArrayList<Course> readSnapshot(String fileName) throws FileNotFoundException {
+		FileInputStream file = new FileInputStream(fileName);
+		DataInputStream in = new DataInputStream(new BufferedInputStream(file));
+		try {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				throw new IllegalArgumentException("Invalid catalog snapshot.");
+			}
+
+			// Counts are checked against the bytes left, so a corrupt count cannot
+			// allocate more than the file could hold
+			long remaining = file.getChannel().size() - 3 * Integer.BYTES;
+			String[] strings = new String[checkCount(in.readInt(), remaining / Integer.BYTES)];
+			for (int i = 0; i < strings.length; i++) {
+				remaining -= Integer.BYTES;
+				byte[] bytes = new byte[checkCount(in.readInt(), remaining)];
+				in.readFully(bytes);
+				remaining -= bytes.length;
+				strings[i] = new String(bytes, StandardCharsets.UTF_8);
+			}
+
+			remaining -= Integer.BYTES;
+			int size = checkCount(in.readInt(), remaining / RECORD_BYTES);
+			ArrayList<Course> catalog = new ArrayList<Course>(Math.min(size, MAX_INITIAL_CAPACITY));
+			for (int i = 0; i < size; i++) {
+				String name = stringAt(strings, in.readInt());
+				String title = stringAt(strings, in.readInt());
+				String section = stringAt(strings, in.readInt());
+				String instructorId = stringAt(strings, in.readInt());
+				String meetingDays = stringAt(strings, in.readInt());
+				int credits = in.readInt();
+				int startTime = in.readInt();
+				int endTime = in.readInt();
+				catalog.add(new Course(name, title, section, credits, instructorId, meetingDays, startTime, endTime));
+			}
+			return catalog;
+		} catch (IOException e) {
+			// Includes an EOFException from a snapshot that was cut short
+			throw new IllegalArgumentException("Invalid catalog snapshot.");
+		} finally {
+			try {
+				in.close();
+			} catch (IOException e) {
+				// Everything has been read, so there is nothing to recover
+			}
+		}
+	}
+
+	/**
+	 * Compiles a file of Course records into a snapshot. Takes the catalog file
+	 * and the snapshot file as its two arguments.
+	 *
+	 * @param args the catalog file followed by the snapshot file
+	 */
+	public static void main(String[] args) {
+		if (args.length != 2) {
+			System.err.println("Usage: CatalogSnapshotIO <catalog file> <snapshot file>");
+			System.exit(1);
+		}
+		try {
+			compileSnapshot(args[0], args[1]);
+		} catch (IOException e) {
+			System.err.println(e.getMessage());
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Returns the string table index of s, adding s to the table if it is not
+	 * already there
+	 *
+	 * @param s       string to find
+	 * @param indexes index of each string already in the table
+	 * @param strings the string table
+	 * @return index of s in the table
+	 */
+	private static int stringIndex(String s, HashMap<String, Integer> indexes, ArrayList<String> strings) {
+		Integer index = indexes.get(s);
+		if (index == null) {
+			index = strings.size();
+			indexes.put(s, index);
+			strings.add(s);
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the string at index in the string table
+	 *
+	 * @param strings the string table
+	 * @param index   index read from the snapshot
+	 * @return the string at index
+	 * @throws IllegalArgumentException if index is not in the table
+	 */
+	private static String stringAt(String[] strings, int index) {
+		if (index < 0 || index >= strings.length) {
+			throw new IllegalArgumentException("Invalid catalog snapshot.");
+		}
+		return strings[index];
+	}
+
+	/**
+	 * Checks that a count read from a snapshot is not negative and fits in the
+	 * rest of the file
+	 *
+	 * @param count count read from the snapshot
+	 * @param limit largest count the bytes left in the file can hold
+	 * @return the count
+	 * @throws IllegalArgumentException if count is negative or more than limit
+	 */
+	private static int checkCount(int count, long limit) {
+		if (count < 0 || count > limit) {
+			throw new IllegalArgumentException("Invalid catalog snapshot.");
+		}
+		return count;
+	}
+
+}
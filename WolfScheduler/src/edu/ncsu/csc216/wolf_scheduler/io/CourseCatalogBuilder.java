@@ -0,0 +1,91 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Collects Courses into a catalog while dropping duplicates. Two Courses are
+ * duplicates if they have the same name and section, and the first one added
+ * is the one that is kept. Duplicates are found with a hash lookup on the name
+ * and section, so each add takes constant time instead of a scan of the
+ * Courses added so far. Courses stay in the order they were added.
+ *
+ * @author Yash Agarwal
+ */
+public class CourseCatalogBuilder {
+
+	/** Separator between the name and section in a key */
+	private static final String KEY_SEPARATOR = ",";
+
+	/** Courses that have been kept, in the order they were added */
+	private ArrayList<Course> courses;
+	/** Keys of the Courses that have been kept */
+	private HashSet<String> keys;
+
+	/**
+	 * Constructs an empty CourseCatalogBuilder
+	 */
+	public CourseCatalogBuilder() {
+		courses = new ArrayList<Course>();
+		keys = new HashSet<String>();
+	}
+
+	/**
+	 * Adds course to the catalog unless a Course with the same name and section
+	 * has already been added
+	 *
+	 * @param course Course to add
+	 * @return true if course was added and false if it was a duplicate
+	 */
+	public boolean add(Course course) {
+		if (keys.add(key(course.getName(), course.getSection()))) {
+			courses.add(course);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Checks if a Course with the given name and section has been added
+	 *
+	 * @param name    name of the Course
+	 * @param section section of the Course
+	 * @return true if a Course with that name and section has been added
+	 */
+	public boolean contains(String name, String section) {
+		return keys.contains(key(name, section));
+	}
+
+	/**
+	 * Returns the number of Courses in the catalog
+	 *
+	 * @return the number of Courses
+	 */
+	public int size() {
+		return courses.size();
+	}
+
+	/**
+	 * Returns the Courses that were kept in the order they were added
+	 *
+	 * @return list of Courses without duplicates
+	 */
+	public ArrayList<Course> build() {
+		return courses;
+	}
+
+	/**
+	 * Creates the key used to find duplicate Courses. Course names and sections
+	 * never contain commas, so the key is unique to the name and section.
+	 *
+	 * @param name    name of a Course
+	 * @param section section of a Course
+	 * @return key for the name and section
+	 */
+	public static String key(String name, String section) {
+		return name + KEY_SEPARATOR + section;
+	}
+
+}
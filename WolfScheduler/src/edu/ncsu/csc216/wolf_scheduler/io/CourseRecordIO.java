@@ -1,11 +1,14 @@
 package edu.ncsu.csc216.wolf_scheduler.io;
 
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.util.ArrayList;
-import java.util.InputMismatchException;
-import java.util.NoSuchElementException;
-import java.util.Scanner;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
 
@@ -25,101 +28,258 @@ public class CourseRecordIO {
 	 * @throws IllegalArgumentException if input is invalid or an element is absent
 	 */
 	public static Course readCourse(String input) {
-		Scanner reader = new Scanner(input);
-		reader.useDelimiter(",");
+		CourseRecordTokenizer reader = new CourseRecordTokenizer();
+		reader.reset(input);
+		return readCourse(reader);
+	}
 
-		String name = "";
-		String title = "";
-		String section = "";
-		int credits = -1;
-		String instructor = "";
-		String meetingDays = "";
+	/**
+	 * Creates a Course object from the current record of reader
+	 * 
+	 * @param reader tokenizer positioned at the start of a record
+	 * @return Course fully constructed Course object from the record
+	 * @throws IllegalArgumentException if the record is invalid or an element is
+	 *                                  absent
+	 */
+	static Course readCourse(CourseRecordTokenizer reader) {
+		String name = reader.next();
+		String title = reader.next();
+		String section = reader.next();
+		int credits = reader.nextInt();
+		String instructor = reader.next();
+		String meetingDays = reader.next();
 
 		int startTime = 0;
 		int endTime = 0;
 
-		try {
-			name = reader.next();
-			title = reader.next();
-			section = reader.next();
-			credits = reader.nextInt();
-			instructor = reader.next();
-			meetingDays = reader.next();
-
-			if ("A".equals(meetingDays)) {
-				if (reader.hasNext()) {
-					reader.close();
-					throw new IllegalArgumentException();
-				} else {
-					reader.close();
-					return new Course(name, title, section, credits, instructor, meetingDays, 0, 0);
-				}
-			} else {
-				startTime = reader.nextInt();
-				endTime = reader.nextInt();
-				if (reader.hasNext()) {
-					reader.close();
-					throw new IllegalArgumentException();
-				}
-				reader.close();
-				return new Course(name, title, section, credits, instructor, meetingDays, startTime, endTime);
-			}
-
-		} catch (InputMismatchException e) {
+		if (!"A".equals(meetingDays)) {
+			startTime = reader.nextInt();
+			endTime = reader.nextInt();
+		}
+		if (reader.hasNext()) {
 			throw new IllegalArgumentException();
+		}
+		return new Course(name, title, section, credits, instructor, meetingDays, startTime, endTime);
+	}
 
-		} catch (NoSuchElementException e) {
-			throw new IllegalArgumentException();
+	/**
+	 * Creates a Course object from the current record of reader without throwing
+	 * an exception for an invalid record. Accepts and rejects exactly the same
+	 * records as readCourse(), but reports why a record was rejected instead of
+	 * throwing an IllegalArgumentException.
+	 * 
+	 * The title, instructor id, and meeting days of the Course are shared with
+	 * the other Courses parsed with the same interner.
+	 * 
+	 * @param reader     tokenizer positioned at the start of a record
+	 * @param fields     interner for the catalog being loaded
+	 * @param report     report to record a rejected record in, or null
+	 * @param lineNumber line number of the record, used in the report
+	 * @return the Course, or null if the record is invalid
+	 */
+	static Course parseCourse(CourseRecordTokenizer reader, FieldInterner fields, CatalogLoadReport report,
+			int lineNumber) {
+		String name = reader.nextOrNull();
+		String title = reader.nextOrNull();
+		String section = reader.nextOrNull();
+		if (section == null || !reader.hasNextInt()) {
+			return reject(reader, report, lineNumber);
+		}
+		int credits = reader.nextInt();
+		String instructor = reader.nextOrNull();
+		String meetingDays = reader.nextOrNull();
+		if (meetingDays == null) {
+			return reject(reader, report, lineNumber);
 		}
 
+		int startTime = 0;
+		int endTime = 0;
+
+		if (!"A".equals(meetingDays)) {
+			if (!reader.hasNextInt()) {
+				return reject(reader, report, lineNumber);
+			}
+			startTime = reader.nextInt();
+			if (!reader.hasNextInt()) {
+				return reject(reader, report, lineNumber);
+			}
+			endTime = reader.nextInt();
+		}
+		if (reader.hasNext()) {
+			return reject(report, lineNumber, CatalogLoadReport.EXTRA_FIELD);
+		}
+
+		String invalid = Course.validate(name, title, section, credits, instructor, meetingDays, startTime, endTime);
+		if (invalid != null) {
+			return reject(report, lineNumber, invalid);
+		}
+		return new Course(name, fields.intern(title), section, credits, fields.intern(instructor),
+				fields.intern(meetingDays), startTime, endTime);
+	}
+
+	/**
+	 * Records that the record on lineNumber stopped at a field that is either
+	 * missing or not a number
+	 * 
+	 * @param reader     tokenizer positioned at the field
+	 * @param report     report to record the rejected record in, or null
+	 * @param lineNumber line number of the record
+	 * @return null, since no Course was created
+	 */
+	private static Course reject(CourseRecordTokenizer reader, CatalogLoadReport report, int lineNumber) {
+		return reject(report, lineNumber,
+				reader.hasNext() ? CatalogLoadReport.INVALID_NUMBER : CatalogLoadReport.MISSING_FIELD);
+	}
+
+	/**
+	 * Records that the record on lineNumber was rejected
+	 * 
+	 * @param report     report to record the rejected record in, or null
+	 * @param lineNumber line number of the record
+	 * @param reason     why the record was rejected
+	 * @return null, since no Course was created
+	 */
+	private static Course reject(CatalogLoadReport report, int lineNumber, String reason) {
+		if (report != null) {
+			report.reject(lineNumber, reason);
+		}
+		return null;
 	}
 
 	/**
 	 * Reads course records from a file and generates a list of valid Courses. Any
 	 * invalid Courses are ignored. If the file to read cannot be found or the
-	 * permissions are incorrect a File NotFoundException is thrown.
+	 * permissions are incorrect a File NotFoundException is thrown. A GZIP or
+	 * Deflate (zlib) compressed file is decompressed as it is read.
 	 * 
 	 * @param fileName file to read Course records from
 	 * @return a list of valid Courses
 	 * @throws FileNotFoundException if the file cannot be found or read
 	 */
 	public static ArrayList<Course> readCourseRecords(String fileName) throws FileNotFoundException {
-		Scanner fileReader = new Scanner(new FileInputStream(fileName)); // Create a file scanner to read the file
-		ArrayList<Course> courses = new ArrayList<Course>(); // Create an empty array of Course objects
-		while (fileReader.hasNextLine()) { // While we have more lines in the file
-			try { // Attempt to do the following
-					// Read the line, process it in readCourse, and get the object
-					// If trying to construct a Course in readCourse() results in an exception, flow
-					// of control will transfer to the catch block, below
-				Course course = readCourse(fileReader.nextLine());
-
-				// Create a flag to see if the newly created Course is a duplicate of something
-				// already in the list
-				boolean duplicate = false;
-				// Look at all the courses in our list
-				for (int i = 0; i < courses.size(); i++) {
-					// Get the course at index i
-					Course current = courses.get(i);
-					// Check if the name and section are the same
-					if (course.getName().equals(current.getName())
-							&& course.getSection().equals(current.getSection())) {
-						// It's a duplicate!
-						duplicate = true;
-						break; // We can break out of the loop, no need to continue searching
-					}
+		return readCourseRecords(CourseRecordInput.open(fileName), null);
+	}
+
+	/**
+	 * Reads course records from a file and generates a list of valid Courses,
+	 * the same list as readCourseRecords(String). Invalid lines are rejected
+	 * without throwing an exception, and report is filled in with the number of
+	 * accepted, rejected, and duplicate lines, along with the line number and
+	 * reason for every rejected line.
+	 * 
+	 * @param fileName file to read Course records from
+	 * @param report   report to fill in while reading the file
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	public static ArrayList<Course> readCourseRecords(String fileName, CatalogLoadReport report)
+			throws FileNotFoundException {
+		if (report == null) {
+			throw new IllegalArgumentException("Report cannot be null.");
+		}
+		return readCourseRecords(CourseRecordInput.open(fileName), report);
+	}
+
+	/**
+	 * Reads course records from a file and generates a list of valid Courses
+	 * 
+	 * @param file   the open, uncompressed file to read Course records from
+	 * @param report report to fill in while reading, or null
+	 * @return a list of valid Courses
+	 */
+	private static ArrayList<Course> readCourseRecords(InputStream file, CatalogLoadReport report) {
+		// Create a tokenizer that reads the file one line at a time
+		CourseRecordTokenizer fileReader = new CourseRecordTokenizer(new InputStreamReader(file));
+		// Create an empty catalog that drops Courses with a name and section already in it
+		CourseCatalogBuilder courses = new CourseCatalogBuilder();
+		// Share repeated titles, instructors, and meeting days across the catalog
+		FieldInterner fields = new FieldInterner();
+		int lineNumber = 0;
+		while (fileReader.nextLine()) { // While we have more lines in the file
+			lineNumber++;
+			// Read the line and get the object, or null if the line is invalid
+			Course course = parseCourse(fileReader, fields, report, lineNumber);
+			if (course == null) {
+				continue; // The line is invalid b/c we couldn't create a course, skip it!
+			}
+
+			// Add the Course unless it is a duplicate of something already in the catalog
+			boolean added = courses.add(course);
+			if (report != null) {
+				if (added) {
+					report.accept();
+				} else {
+					report.duplicate();
 				}
-				// If the course is NOT a duplicate
-				if (!duplicate) {
-					courses.add(course); // Add to the ArrayList!
-				} // Otherwise ignore
-			} catch (IllegalArgumentException e) {
-				// The line is invalid b/c we couldn't create a course, skip it!
 			}
 		}
-		// Close the Scanner b/c we're responsible with our file handles
+		// Close the tokenizer b/c we're responsible with our file handles
 		fileReader.close();
 		// Return the ArrayList with all the courses we read!
-		return courses;
+		return courses.build();
+	}
+
+	/**
+	 * Reads course records from a file on several threads and generates a list of
+	 * valid Courses. The file is split into ranges on line boundaries that are
+	 * parsed on the common ForkJoinPool, and the results are merged so the list is
+	 * the same as the one returned by readCourseRecords(): Courses are in file
+	 * order, invalid Courses are ignored, and only the first Course with a given
+	 * name and section is kept.
+	 * 
+	 * @param fileName file to read Course records from
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	public static ArrayList<Course> readCourseRecordsInParallel(String fileName) throws FileNotFoundException {
+		return new ParallelCourseRecordReader(ForkJoinPool.commonPool(), ParallelCourseRecordReader.MIN_CHUNK_SIZE)
+				.read(fileName);
+	}
+
+	/**
+	 * Reads course records from a file by memory mapping it and generates a list of
+	 * valid Courses. The file is never copied through a FileInputStream or Scanner.
+	 * The list is the same as the one returned by readCourseRecords().
+	 * 
+	 * @param fileName file to read Course records from
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	public static ArrayList<Course> readCourseRecordsMapped(String fileName) throws FileNotFoundException {
+		return new MappedCourseRecordReader(MappedCourseRecordReader.DEFAULT_WINDOW_SIZE).read(fileName);
+	}
+
+	/**
+	 * Returns a lazily evaluated Stream of the valid Courses in a file. Lines are
+	 * read only as the Stream is consumed, invalid Courses are ignored, and only
+	 * the first Course with a given name and section is included, so the Stream
+	 * has the same Courses in the same order as readCourseRecords(). The file is
+	 * closed when the last Course has been read or when the Stream is closed.
+	 * 
+	 * @param fileName file to read Course records from
+	 * @return a Stream of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	public static Stream<Course> streamCourseRecords(String fileName) throws FileNotFoundException {
+		CourseRecordIterator courses = iterateCourseRecords(fileName);
+		return StreamSupport
+				.stream(Spliterators.spliteratorUnknownSize(courses,
+						Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false)
+				.onClose(courses::close);
+	}
+
+	/**
+	 * Returns an Iterator over the valid Courses in a file. The Iterator returns
+	 * the same Courses in the same order as readCourseRecords(), reading one line
+	 * at a time. The file is closed when the last Course has been returned or when
+	 * the Iterator is closed.
+	 * 
+	 * @param fileName file to read Course records from
+	 * @return an Iterator over the valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	public static CourseRecordIterator iterateCourseRecords(String fileName) throws FileNotFoundException {
+		return new CourseRecordIterator(new InputStreamReader(CourseRecordInput.open(fileName)));
 	}
 
-}
\ No newline at end of file
+}
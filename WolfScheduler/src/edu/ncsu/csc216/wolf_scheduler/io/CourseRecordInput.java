@@ -0,0 +1,115 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Opens files of Course records that may be compressed. A file that starts with
+ * the GZIP magic bytes or a zlib (Deflate) header is decompressed as it is read,
+ * so the decompressed records are never written to disk or held in memory all
+ * at once. Any other file is read as plain text.
+ *
+ * @author Yash Agarwal
+ */
+class CourseRecordInput {
+
+	/** First byte of a GZIP file */
+	private static final int GZIP_MAGIC_1 = 0x1f;
+	/** Second byte of a GZIP file */
+	private static final int GZIP_MAGIC_2 = 0x8b;
+	/** First byte of a zlib stream using Deflate with a 32K window */
+	private static final int ZLIB_CMF = 0x78;
+	/** Size of the buffers used while decompressing */
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * Opens a file of Course records, decompressing it if it is GZIP or zlib
+	 * compressed
+	 *
+	 * @param fileName file to open
+	 * @return stream of the uncompressed bytes of the file
+	 * @throws FileNotFoundException if the file cannot be found or its compressed
+	 *                               header cannot be read
+	 */
+	static InputStream open(String fileName) throws FileNotFoundException {
+		BufferedInputStream in = new BufferedInputStream(new FileInputStream(fileName), BUFFER_SIZE);
+		try {
+			in.mark(2);
+			int first = in.read();
+			int second = in.read();
+			in.reset();
+
+			if (isGzip(first, second)) {
+				return new GZIPInputStream(in, BUFFER_SIZE);
+			}
+			if (isZlib(first, second)) {
+				return new InflaterInputStream(in);
+			}
+			return in;
+		} catch (IOException e) {
+			try {
+				in.close();
+			} catch (IOException ignored) {
+				// The file is unusable, so there is nothing to recover
+			}
+			throw new FileNotFoundException("Cannot read file.");
+		}
+	}
+
+	/**
+	 * Checks if the file open on channel is GZIP or zlib compressed. The channel's
+	 * position is not changed.
+	 *
+	 * @param channel channel of the file
+	 * @return true if the file is compressed
+	 */
+	static boolean isCompressed(FileChannel channel) {
+		ByteBuffer header = ByteBuffer.allocate(2);
+		try {
+			while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+				// Keep reading until both bytes are in or the file ends
+			}
+		} catch (IOException e) {
+			return false;
+		}
+		if (header.position() < 2) {
+			return false;
+		}
+		int first = header.get(0) & 0xFF;
+		int second = header.get(1) & 0xFF;
+		return isGzip(first, second) || isZlib(first, second);
+	}
+
+	/**
+	 * Checks if the first two bytes of a file are the GZIP magic bytes
+	 *
+	 * @param first  first byte, or -1 at the end of the file
+	 * @param second second byte, or -1 at the end of the file
+	 * @return true if the file is GZIP compressed
+	 */
+	private static boolean isGzip(int first, int second) {
+		return first == GZIP_MAGIC_1 && second == GZIP_MAGIC_2;
+	}
+
+	/**
+	 * Checks if the first two bytes of a file are a zlib header for a Deflate
+	 * stream without a preset dictionary. Only the compression levels written by
+	 * zlib are accepted, so a plain text record that happens to start with "x" is
+	 * not mistaken for compressed data.
+	 *
+	 * @param first  first byte, or -1 at the end of the file
+	 * @param second second byte, or -1 at the end of the file
+	 * @return true if the file is zlib compressed
+	 */
+	private static boolean isZlib(int first, int second) {
+		return first == ZLIB_CMF && (second == 0x01 || second == 0x5e || second == 0x9c || second == 0xda);
+	}
+
+}
@@ -0,0 +1,96 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.Closeable;
+import java.io.Reader;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Iterates over the valid Courses in a file of Course records one line at a
+ * time, without holding the whole catalog in memory. Invalid lines are skipped
+ * and only the first Course with a given name and section is returned, the same
+ * as readCourseRecords(). Only the names and sections seen so far are kept.
+ *
+ * The file is closed once the last Course has been returned, or when close() is
+ * called.
+ *
+ * @author Yash Agarwal
+ */
+public class CourseRecordIterator implements Iterator<Course>, Closeable {
+
+	/** Tokenizer reading the file */
+	private CourseRecordTokenizer reader;
+	/** Keys of the Courses returned so far */
+	private HashSet<String> keys;
+	/** Shares repeated field values between the Courses returned */
+	private FieldInterner fields;
+	/** Next Course to return, or null if it has not been read yet */
+	private Course next;
+	/** True once the file has been closed */
+	private boolean closed;
+
+	/**
+	 * Constructs an iterator over the Course records read from reader
+	 *
+	 * @param reader source of the Course records
+	 */
+	CourseRecordIterator(Reader reader) {
+		this.reader = new CourseRecordTokenizer(reader);
+		this.keys = new HashSet<String>();
+		this.fields = new FieldInterner();
+	}
+
+	/**
+	 * Checks if there is another valid Course in the file, reading ahead to it if
+	 * needed
+	 *
+	 * @return true if there is another Course
+	 */
+	@Override
+	public boolean hasNext() {
+		while (next == null && !closed) {
+			if (!reader.nextLine()) {
+				close();
+			} else {
+				Course course = CourseRecordIO.parseCourse(reader, fields, null, 0);
+				if (course != null && keys.add(CourseCatalogBuilder.key(course.getName(), course.getSection()))) {
+					next = course;
+				}
+			}
+		}
+		return next != null;
+	}
+
+	/**
+	 * Returns the next valid Course in the file
+	 *
+	 * @return the next Course
+	 * @throws NoSuchElementException if there are no more Courses
+	 */
+	@Override
+	public Course next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		Course course = next;
+		next = null;
+		return course;
+	}
+
+	/**
+	 * Closes the file. No more Courses are returned after the iterator is closed.
+	 */
+	@Override
+	public void close() {
+		// Drop a Course hasNext() already read ahead to
+		next = null;
+		if (!closed) {
+			closed = true;
+			reader.close();
+		}
+	}
+
+}
@@ -0,0 +1,312 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+
+/**
+ * Splits Course records into their comma separated fields without the regular
+ * expression matching a Scanner does. Each record is copied into a char buffer
+ * that is reused for every line, and integer fields are parsed straight out of
+ * that buffer.
+ *
+ * Fields are split exactly like a Scanner using "," as its delimiter, and lines
+ * are split on the same line separators as Scanner.nextLine(), so a record is
+ * accepted or rejected the same way it was when it was read with a Scanner.
+ *
+ * @author Yash Agarwal
+ */
+class CourseRecordTokenizer {
+
+	/** Separator between the fields of a record */
+	private static final char DELIMITER = ',';
+	/** Starting size of the line buffer */
+	private static final int INITIAL_LINE_SIZE = 128;
+	/** Size of the buffer characters are read into from the Reader */
+	private static final int READ_BUFFER_SIZE = 8192;
+
+	/** Source of records, or null if records are given one at a time */
+	private final Reader reader;
+	/** Characters read from the Reader but not yet split into lines */
+	private final char[] readBuffer;
+	/** Next unread character in readBuffer */
+	private int readPos;
+	/** Number of valid characters in readBuffer */
+	private int readLimit;
+	/** True once the Reader has no more characters */
+	private boolean endOfInput;
+	/** Characters of the current record */
+	private char[] line;
+	/** Number of characters in the current record */
+	private int length;
+	/** Position of the next field in the current record */
+	private int pos;
+	/** Value of the int field most recently parsed */
+	private int parsedInt;
+
+	/**
+	 * Constructs a tokenizer for records passed in through reset()
+	 */
+	CourseRecordTokenizer() {
+		this(null);
+	}
+
+	/**
+	 * Constructs a tokenizer that reads its records line by line from reader
+	 *
+	 * @param reader source of the records
+	 */
+	CourseRecordTokenizer(Reader reader) {
+		this.reader = reader;
+		this.readBuffer = reader == null ? null : new char[READ_BUFFER_SIZE];
+		this.endOfInput = reader == null;
+		this.line = new char[INITIAL_LINE_SIZE];
+	}
+
+	/**
+	 * Makes input the current record
+	 *
+	 * @param input record to split into fields
+	 */
+	void reset(String input) {
+		length = 0;
+		pos = 0;
+		ensureCapacity(input.length());
+		input.getChars(0, input.length(), line, 0);
+		length = input.length();
+	}
+
+	/**
+	 * Makes the ASCII bytes of buffer from start up to end the current record.
+	 * Each byte is widened straight into the line buffer without going through a
+	 * charset decoder, so every byte must be below 0x80.
+	 *
+	 * @param buffer buffer holding the record
+	 * @param start  index of the first byte of the record
+	 * @param end    index just past the last byte of the record
+	 */
+	void reset(ByteBuffer buffer, int start, int end) {
+		length = 0;
+		pos = 0;
+		ensureCapacity(end - start);
+		for (int i = start; i < end; i++) {
+			line[i - start] = (char) buffer.get(i);
+		}
+		length = end - start;
+	}
+
+	/**
+	 * Makes the next line of the Reader the current record. Lines end at "\r\n",
+	 * "\n", "\r", "\u2028", "\u2029", or "\u0085", the same separators used by
+	 * Scanner.nextLine(). As with a Scanner, an IOException is treated as the end
+	 * of the input.
+	 *
+	 * @return true if a line was read and false if there are no more lines
+	 */
+	boolean nextLine() {
+		length = 0;
+		pos = 0;
+		boolean sawCharacter = false;
+		while (true) {
+			if (readPos == readLimit && !fill()) {
+				return sawCharacter;
+			}
+			char c = readBuffer[readPos++];
+			sawCharacter = true;
+			if (c == '\n' || c == '\u2028' || c == '\u2029' || c == '\u0085') {
+				return true;
+			}
+			if (c == '\r') {
+				if ((readPos < readLimit || fill()) && readBuffer[readPos] == '\n') {
+					readPos++;
+				}
+				return true;
+			}
+			ensureCapacity(length + 1);
+			line[length++] = c;
+		}
+	}
+
+	/**
+	 * Checks if the current record has another field
+	 *
+	 * @return true if there is another field
+	 */
+	boolean hasNext() {
+		return fieldStart() < length;
+	}
+
+	/**
+	 * Returns the next field of the current record
+	 *
+	 * @return the next field
+	 * @throws IllegalArgumentException if there are no more fields
+	 */
+	String next() {
+		int start = fieldStart();
+		if (start >= length) {
+			throw new IllegalArgumentException();
+		}
+		int end = fieldEnd(start);
+		pos = end;
+		return new String(line, start, end - start);
+	}
+
+	/**
+	 * Returns the next field of the current record, or null if there are no more
+	 * fields
+	 *
+	 * @return the next field or null
+	 */
+	String nextOrNull() {
+		return hasNext() ? next() : null;
+	}
+
+	/**
+	 * Checks if the next field of the current record is an int. Accepts the same
+	 * values as Scanner.hasNextInt(): an optional sign followed by one or more
+	 * digits that fit in an int. The field is not consumed.
+	 *
+	 * @return true if the next field is an int
+	 */
+	boolean hasNextInt() {
+		int start = fieldStart();
+		return start < length && parseInt(start, fieldEnd(start));
+	}
+
+	/**
+	 * Returns the next field of the current record as an int
+	 *
+	 * @return the next field as an int
+	 * @throws IllegalArgumentException if there are no more fields or the field
+	 *                                  is not an int
+	 */
+	int nextInt() {
+		int start = fieldStart();
+		if (start >= length) {
+			throw new IllegalArgumentException();
+		}
+		int end = fieldEnd(start);
+		if (!parseInt(start, end)) {
+			throw new IllegalArgumentException();
+		}
+		pos = end;
+		return parsedInt;
+	}
+
+	/**
+	 * Closes the Reader, if there is one
+	 */
+	void close() {
+		if (reader != null) {
+			try {
+				reader.close();
+			} catch (IOException e) {
+				// Nothing left to read, so there is nothing to recover
+			}
+		}
+	}
+
+	/**
+	 * Finds the start of the next field. Like a Scanner, a single delimiter in
+	 * front of the field is skipped.
+	 *
+	 * @return index of the first character of the next field
+	 */
+	private int fieldStart() {
+		if (pos < length && line[pos] == DELIMITER) {
+			return pos + 1;
+		}
+		return pos;
+	}
+
+	/**
+	 * Finds the end of the field starting at start
+	 *
+	 * @param start index of the first character of the field
+	 * @return index just past the last character of the field
+	 */
+	private int fieldEnd(int start) {
+		int end = start;
+		while (end < length && line[end] != DELIMITER) {
+			end++;
+		}
+		return end;
+	}
+
+	/**
+	 * Parses the characters from start up to end as an int and stores it in
+	 * parsedInt
+	 *
+	 * @param start index of the first character of the field
+	 * @param end   index just past the last character of the field
+	 * @return true if the field is an int
+	 */
+	private boolean parseInt(int start, int end) {
+		int i = start;
+		boolean negative = false;
+		if (line[i] == '-' || line[i] == '+') {
+			negative = line[i] == '-';
+			i++;
+		}
+		if (i == end) {
+			return false;
+		}
+
+		// Accumulate as a negative number so Integer.MIN_VALUE can be parsed
+		int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+		int multiplyLimit = limit / 10;
+		int value = 0;
+		for (; i < end; i++) {
+			int digit = Character.isDigit(line[i]) ? Character.digit(line[i], 10) : -1;
+			if (digit < 0 || value < multiplyLimit) {
+				return false;
+			}
+			value *= 10;
+			if (value < limit + digit) {
+				return false;
+			}
+			value -= digit;
+		}
+		parsedInt = negative ? value : -value;
+		return true;
+	}
+
+	/**
+	 * Grows the line buffer so it holds at least capacity characters
+	 *
+	 * @param capacity number of characters needed
+	 */
+	private void ensureCapacity(int capacity) {
+		if (capacity > line.length) {
+			char[] larger = new char[Math.max(capacity, line.length * 2)];
+			System.arraycopy(line, 0, larger, 0, length);
+			line = larger;
+		}
+	}
+
+	/**
+	 * Reads more characters into the read buffer
+	 *
+	 * @return true if at least one character was read
+	 */
+	private boolean fill() {
+		while (!endOfInput) {
+			int read;
+			try {
+				read = reader.read(readBuffer, 0, readBuffer.length);
+			} catch (IOException e) {
+				read = -1;
+			}
+			if (read < 0) {
+				endOfInput = true;
+			} else if (read > 0) {
+				readPos = 0;
+				readLimit = read;
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,61 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares one instance of each distinct field value across the Courses of a
+ * catalog while it is being loaded. A large catalog repeats a few hundred
+ * titles, instructor ids, and meeting days across every section, so keeping one
+ * String per value instead of one per section cuts the memory the catalog
+ * holds on to. An interner belongs to a single load and is discarded with it,
+ * unlike String.intern(), so values from old catalogs are not kept forever.
+ *
+ * The parallel reader shares one interner between its threads, so it is safe to
+ * use from several threads at once.
+ *
+ * @author Yash Agarwal
+ */
+class FieldInterner {
+
+	/** Canonical instance of each value seen so far */
+	private ConcurrentHashMap<String, String> values;
+
+	/**
+	 * Constructs an empty interner
+	 */
+	FieldInterner() {
+		values = new ConcurrentHashMap<String, String>();
+	}
+
+	/**
+	 * Returns the shared instance of value, making value the shared instance if it
+	 * has not been seen before
+	 *
+	 * @param value value to share, may be null
+	 * @return a String equal to value that is shared by every equal value, or null
+	 *         if value is null
+	 */
+	String intern(String value) {
+		if (value == null) {
+			return null;
+		}
+		String shared = values.get(value);
+		if (shared == null) {
+			shared = values.putIfAbsent(value, value);
+			if (shared == null) {
+				shared = value;
+			}
+		}
+		return shared;
+	}
+
+	/**
+	 * Returns the number of distinct values seen so far
+	 *
+	 * @return number of distinct values
+	 */
+	int size() {
+		return values.size();
+	}
+
+}
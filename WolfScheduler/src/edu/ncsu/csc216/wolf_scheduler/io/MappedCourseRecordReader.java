@@ -0,0 +1,209 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Reads a file of Course records by memory mapping it with FileChannel.map()
+ * instead of copying it through a FileInputStream. The file is mapped a window
+ * at a time, and lines made up only of ASCII bytes are widened straight from the
+ * mapped buffer into a CourseRecordTokenizer. The rare line with other bytes is
+ * decoded with the default charset, the same way readCourseRecords() decodes
+ * it, so both readers return the same catalog. A compressed file is handed to
+ * readCourseRecords() to be decompressed.
+ *
+ * @author Yash Agarwal
+ */
+class MappedCourseRecordReader {
+
+	/** Largest part of the file mapped at one time */
+	static final int DEFAULT_WINDOW_SIZE = 64 << 20;
+
+	/** Size of the window mapped at one time */
+	private int windowSize;
+
+	/**
+	 * Constructs a reader that maps windowSize bytes of the file at a time
+	 *
+	 * @param windowSize size of the window mapped at one time
+	 */
+	MappedCourseRecordReader(int windowSize) {
+		this.windowSize = windowSize;
+	}
+
+	/**
+	 * Reads course records from a file and generates a list of valid Courses
+	 * without duplicates, in the order they appear in the file
+	 *
+	 * @param fileName file to read Course records from
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	ArrayList<Course> read(String fileName) throws FileNotFoundException {
+		Charset charset = Charset.defaultCharset();
+		if (!isAsciiCompatible(charset)) {
+			return CourseRecordIO.readCourseRecords(fileName);
+		}
+
+		FileInputStream file = new FileInputStream(fileName);
+		CourseCatalogBuilder courses = new CourseCatalogBuilder();
+		FieldInterner fields = new FieldInterner();
+		CourseRecordTokenizer tokenizer = new CourseRecordTokenizer();
+		try {
+			FileChannel channel = file.getChannel();
+			if (CourseRecordInput.isCompressed(channel)) {
+				// Mapping would only expose the compressed bytes
+				return CourseRecordIO.readCourseRecords(fileName);
+			}
+			long size = channel.size();
+			long windowStart = 0;
+			int window = windowSize;
+			while (windowStart < size) {
+				int mapped = (int) Math.min(size - windowStart, window);
+				boolean lastWindow = windowStart + mapped == size;
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, mapped);
+
+				int lineStart = readLines(buffer, mapped, lastWindow, charset, tokenizer, fields, courses);
+				if (lastWindow) {
+					break;
+				}
+				if (lineStart == 0) {
+					// A single line is longer than the window
+					window = (int) Math.min(Integer.MAX_VALUE, window * 2L);
+				}
+				windowStart += lineStart;
+			}
+		} catch (IOException e) {
+			// Like a Scanner, treat a read error as the end of the file
+		} finally {
+			try {
+				file.close();
+			} catch (IOException e) {
+				// Everything has been read, so there is nothing to recover
+			}
+		}
+		return courses.build();
+	}
+
+	/**
+	 * Reads every complete line in the mapped window. Lines end at "\n", "\r", or
+	 * "\r\n". In the last window, the line after the final separator is complete
+	 * too.
+	 *
+	 * @param buffer     mapped window of the file
+	 * @param limit      number of bytes in the window
+	 * @param lastWindow true if the window reaches the end of the file
+	 * @param charset    charset used for lines that are not all ASCII
+	 * @param tokenizer  tokenizer reused for every line
+	 * @param fields     interner for the catalog being loaded
+	 * @param courses    catalog the valid Courses are added to
+	 * @return index of the first byte of the window that was not read
+	 */
+	private static int readLines(ByteBuffer buffer, int limit, boolean lastWindow, Charset charset,
+			CourseRecordTokenizer tokenizer, FieldInterner fields, CourseCatalogBuilder courses) {
+		int lineStart = 0;
+		boolean ascii = true;
+		int i = 0;
+		while (i < limit) {
+			byte b = buffer.get(i);
+			if (b == '\n' || b == '\r') {
+				int next = i + 1;
+				if (b == '\r') {
+					if (next < limit) {
+						if (buffer.get(next) == '\n') {
+							next++;
+						}
+					} else if (!lastWindow) {
+						// The "\n" of a "\r\n" could be in the next window
+						return lineStart;
+					}
+				}
+				readLine(buffer, lineStart, i, ascii, charset, tokenizer, fields, courses);
+				lineStart = next;
+				i = next;
+				ascii = true;
+			} else {
+				if (b < 0) {
+					ascii = false;
+				}
+				i++;
+			}
+		}
+		if (lastWindow && lineStart < limit) {
+			readLine(buffer, lineStart, limit, ascii, charset, tokenizer, fields, courses);
+			return limit;
+		}
+		return lineStart;
+	}
+
+	/**
+	 * Reads the line from start up to end and adds its Course to courses if the
+	 * line is valid
+	 *
+	 * @param buffer    mapped window of the file
+	 * @param start     index of the first byte of the line
+	 * @param end       index just past the last byte of the line
+	 * @param ascii     true if every byte of the line is ASCII
+	 * @param charset   charset used if the line is not all ASCII
+	 * @param tokenizer tokenizer reused for every ASCII line
+	 * @param fields    interner for the catalog being loaded
+	 * @param courses   catalog the valid Courses are added to
+	 */
+	private static void readLine(ByteBuffer buffer, int start, int end, boolean ascii, Charset charset,
+			CourseRecordTokenizer tokenizer, FieldInterner fields, CourseCatalogBuilder courses) {
+		if (ascii) {
+			tokenizer.reset(buffer, start, end);
+			addCourse(tokenizer, fields, courses);
+			return;
+		}
+
+		// Decode the line and split it on the separators that are not ASCII
+		byte[] bytes = new byte[end - start];
+		for (int i = start; i < end; i++) {
+			bytes[i - start] = buffer.get(i);
+		}
+		CourseRecordTokenizer decoded = new CourseRecordTokenizer(new StringReader(new String(bytes, charset)));
+		while (decoded.nextLine()) {
+			addCourse(decoded, fields, courses);
+		}
+	}
+
+	/**
+	 * Adds the Course in the current record of tokenizer to courses if the record
+	 * is valid
+	 *
+	 * @param tokenizer tokenizer holding the record
+	 * @param fields    interner for the catalog being loaded
+	 * @param courses   catalog the Course is added to
+	 */
+	private static void addCourse(CourseRecordTokenizer tokenizer, FieldInterner fields,
+			CourseCatalogBuilder courses) {
+		Course course = CourseRecordIO.parseCourse(tokenizer, fields, null, 0);
+		if (course != null) {
+			courses.add(course);
+		}
+	}
+
+	/**
+	 * Checks if ASCII bytes mean the same characters in charset, and '\n' and '\r'
+	 * bytes are always line separators
+	 *
+	 * @param charset charset to check
+	 * @return true if the file can be read straight from its bytes
+	 */
+	private static boolean isAsciiCompatible(Charset charset) {
+		return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset)
+				|| StandardCharsets.ISO_8859_1.equals(charset);
+	}
+
+}
@@ -0,0 +1,253 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Reads a file of Course records on several threads. The file is split into
+ * byte ranges that each end just after a '\n', every range is parsed on a
+ * ForkJoinPool, and the Courses from each range are merged in file order. The
+ * merge uses a CourseCatalogBuilder, so the first Course with a name and
+ * section in the file is the one that is kept, exactly as when the file is read
+ * on one thread. A compressed file cannot be split, so it is read on one thread.
+ *
+ * @author Yash Agarwal
+ */
+class ParallelCourseRecordReader {
+
+	/** Smallest range worth handing to its own task */
+	static final long MIN_CHUNK_SIZE = 1 << 20;
+	/** Number of ranges to create for each thread in the pool */
+	private static final int CHUNKS_PER_THREAD = 4;
+	/** Size of the buffer used when searching for the end of a line */
+	private static final int SCAN_BUFFER_SIZE = 4096;
+
+	/** Pool that parses the ranges */
+	private ForkJoinPool pool;
+	/** Smallest range handed to its own task */
+	private long minChunkSize;
+
+	/**
+	 * Constructs a reader that parses ranges of at least minChunkSize bytes on
+	 * pool
+	 *
+	 * @param pool         pool that parses the ranges
+	 * @param minChunkSize smallest range handed to its own task
+	 */
+	ParallelCourseRecordReader(ForkJoinPool pool, long minChunkSize) {
+		this.pool = pool;
+		this.minChunkSize = minChunkSize;
+	}
+
+	/**
+	 * Reads course records from a file and generates a list of valid Courses
+	 * without duplicates, in the order they appear in the file
+	 *
+	 * @param fileName file to read Course records from
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	ArrayList<Course> read(String fileName) throws FileNotFoundException {
+		FileInputStream file = new FileInputStream(fileName);
+		FileChannel channel = file.getChannel();
+		try {
+			if (CourseRecordInput.isCompressed(channel)) {
+				// A compressed file can only be decompressed from the start
+				return CourseRecordIO.readCourseRecords(fileName);
+			}
+			long[] bounds = splitOnLines(channel, Charset.defaultCharset());
+			// One interner for every range, so values are shared across the whole catalog
+			FieldInterner fields = new FieldInterner();
+
+			ArrayList<ForkJoinTask<CourseCatalogBuilder>> tasks = new ArrayList<ForkJoinTask<CourseCatalogBuilder>>();
+			for (int i = 0; i + 1 < bounds.length; i++) {
+				long start = bounds[i];
+				long end = bounds[i + 1];
+				tasks.add(pool.submit(() -> readRange(channel, start, end, fields)));
+			}
+
+			// Merge in file order so the first Course in the file wins
+			CourseCatalogBuilder catalog = new CourseCatalogBuilder();
+			for (ForkJoinTask<CourseCatalogBuilder> task : tasks) {
+				for (Course course : task.join().build()) {
+					catalog.add(course);
+				}
+			}
+			return catalog.build();
+		} finally {
+			try {
+				file.close();
+			} catch (IOException e) {
+				// Everything has been read, so there is nothing to recover
+			}
+		}
+	}
+
+	/**
+	 * Splits the file into ranges that each end just after a '\n' (or at the end of
+	 * the file). Lines are only split into ranges when every '\n' byte in the file
+	 * is a line feed, which is true of UTF-8 and single byte charsets. Any other
+	 * charset is read as a single range.
+	 *
+	 * @param channel channel of the file
+	 * @param charset charset the file is decoded with
+	 * @return offsets where the ranges start, followed by the size of the file
+	 */
+	private long[] splitOnLines(FileChannel channel, Charset charset) {
+		long size;
+		try {
+			size = channel.size();
+		} catch (IOException e) {
+			// Let the Reader find out the file cannot be read
+			return new long[] { 0, Long.MAX_VALUE };
+		}
+
+		int chunks = (int) Math.min(pool.getParallelism() * (long) CHUNKS_PER_THREAD,
+				size / Math.max(1, minChunkSize));
+		if (chunks < 2 || !splitsOnLineFeed(charset)) {
+			return new long[] { 0, size };
+		}
+
+		long[] bounds = new long[chunks + 1];
+		int count = 1;
+		for (int i = 1; i < chunks; i++) {
+			long bound = nextLineStart(channel, Math.max(size / chunks * i, bounds[count - 1]), size);
+			if (bound > bounds[count - 1] && bound < size) {
+				bounds[count++] = bound;
+			}
+		}
+		bounds[count++] = size;
+
+		long[] trimmed = new long[count];
+		System.arraycopy(bounds, 0, trimmed, 0, count);
+		return trimmed;
+	}
+
+	/**
+	 * Finds the offset just after the first '\n' at or after from
+	 *
+	 * @param channel channel of the file
+	 * @param from    offset to start searching at
+	 * @param size    size of the file
+	 * @return offset of the start of the next line, or size if there is none
+	 */
+	private static long nextLineStart(FileChannel channel, long from, long size) {
+		ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+		long position = from;
+		try {
+			while (position < size) {
+				buffer.clear();
+				int read = channel.read(buffer, position);
+				if (read <= 0) {
+					return size;
+				}
+				for (int i = 0; i < read; i++) {
+					if (buffer.get(i) == '\n') {
+						return position + i + 1;
+					}
+				}
+				position += read;
+			}
+		} catch (IOException e) {
+			// Treat the rest of the file as one range
+		}
+		return size;
+	}
+
+	/**
+	 * Checks if a '\n' byte always means a line feed in charset
+	 *
+	 * @param charset charset to check
+	 * @return true if ranges can be split on '\n' bytes
+	 */
+	private static boolean splitsOnLineFeed(Charset charset) {
+		return StandardCharsets.UTF_8.equals(charset) || charset.newEncoder().maxBytesPerChar() == 1.0f;
+	}
+
+	/**
+	 * Parses the Course records between start and end
+	 *
+	 * @param channel channel of the file
+	 * @param start   offset of the first byte of the range
+	 * @param end     offset just past the last byte of the range
+	 * @param fields  interner shared by every range of the file
+	 * @return the valid Courses in the range without duplicates
+	 */
+	private static CourseCatalogBuilder readRange(FileChannel channel, long start, long end, FieldInterner fields) {
+		CourseRecordTokenizer reader = new CourseRecordTokenizer(
+				new InputStreamReader(new RangeInputStream(channel, start, end)));
+		CourseCatalogBuilder courses = new CourseCatalogBuilder();
+		while (reader.nextLine()) {
+			Course course = CourseRecordIO.parseCourse(reader, fields, null, 0);
+			if (course != null) {
+				courses.add(course);
+			}
+		}
+		return courses;
+	}
+
+	/**
+	 * InputStream over a range of a FileChannel. Reads are positional, so several
+	 * RangeInputStreams can share one channel across threads.
+	 *
+	 * @author Yash Agarwal
+	 */
+	private static class RangeInputStream extends InputStream {
+
+		/** Channel being read */
+		private FileChannel channel;
+		/** Offset of the next byte to read */
+		private long position;
+		/** Offset just past the last byte to read */
+		private long end;
+
+		/**
+		 * Constructs a stream over the bytes of channel from start up to end
+		 *
+		 * @param channel channel to read
+		 * @param start   offset of the first byte
+		 * @param end     offset just past the last byte
+		 */
+		RangeInputStream(FileChannel channel, long start, long end) {
+			this.channel = channel;
+			this.position = start;
+			this.end = end;
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] single = new byte[1];
+			return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			if (position >= end) {
+				return -1;
+			}
+			int toRead = (int) Math.min(len, end - position);
+			int read = channel.read(ByteBuffer.wrap(b, off, toRead), position);
+			if (read > 0) {
+				position += read;
+			}
+			return read;
+		}
+
+	}
+
+}
@@ -0,0 +1,79 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Completes the start of a course name or title. The distinct names and titles
+ * of the catalog are lower cased and kept in one sorted array, so the
+ * completions of a prefix are a contiguous run found with a binary search. A
+ * lookup costs O(log n + k) for k completions and never scans the catalog.
+ *
+ * @author Yash Agarwal
+ */
+class AutocompleteIndex {
+
+	/** Lower cased names and titles in sorted order */
+	private String[] keys;
+	/** Name or title as it appears in the catalog for each key */
+	private String[] values;
+
+	/**
+	 * Builds the index over the names and titles of courses
+	 *
+	 * @param courses the catalog
+	 */
+	AutocompleteIndex(List<Course> courses) {
+		HashMap<String, String> entries = new HashMap<String, String>();
+		for (Course c : courses) {
+			// Keep the first spelling of a name or title that only differs in case
+			entries.putIfAbsent(normalize(c.getName()), c.getName());
+			entries.putIfAbsent(normalize(c.getTitle()), c.getTitle());
+		}
+		keys = entries.keySet().toArray(new String[entries.size()]);
+		Arrays.sort(keys);
+		values = new String[keys.length];
+		for (int i = 0; i < keys.length; i++) {
+			values[i] = entries.get(keys[i]);
+		}
+	}
+
+	/**
+	 * Returns the names and titles that start with prefix, ignoring case, in
+	 * alphabetical order
+	 *
+	 * @param prefix start of a name or title
+	 * @param limit  largest number of completions to return
+	 * @return up to limit completions
+	 */
+	String[] complete(String prefix, int limit) {
+		if (prefix == null || limit <= 0) {
+			return new String[0];
+		}
+		String key = normalize(prefix);
+		int first = Arrays.binarySearch(keys, key);
+		if (first < 0) {
+			first = -first - 1;
+		}
+		int end = first;
+		while (end < keys.length && end - first < limit && keys[end].startsWith(key)) {
+			end++;
+		}
+		return Arrays.copyOfRange(values, first, end);
+	}
+
+	/**
+	 * Lower cases text so completions ignore case
+	 *
+	 * @param text text to normalize
+	 * @return the lower cased text
+	 */
+	private static String normalize(String text) {
+		return text.toLowerCase(Locale.ROOT);
+	}
+
+}
@@ -0,0 +1,136 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Which catalog sections conflict with which, worked out once so that asking
+ * about two sections is a bit test. Section i has a row of bits with bit j set
+ * when section j conflicts with it, exactly when conflictsWith() would say so.
+ *
+ * The pairs are found with a sweep over each day instead of comparing every
+ * two sections. The sections meeting on a day are taken in order of start
+ * time while keeping the ones still running: a section conflicts with every
+ * running section whose end time is not before its start. Each day is swept
+ * in parallel into rows of its own, covering only the sections that meet that
+ * day, which are ORed into the matrix as soon as the day is done. No list of
+ * pairs is ever kept.
+ *
+ * @author Yash Agarwal
+ */
+class CatalogConflictMatrix {
+
+	/** Sections in catalog order, indexed by id */
+	private ArrayList<Course> sections;
+	/** Id of each section */
+	private IdentityHashMap<Course, Integer> ids;
+	/** Ids of the sections each section conflicts with, indexed by id */
+	private BitSet[] rows;
+
+	/**
+	 * Works out the conflicts between every two sections
+	 *
+	 * @param sections the catalog sections
+	 */
+	CatalogConflictMatrix(List<Course> sections) {
+		this.sections = new ArrayList<Course>(sections);
+		this.ids = new IdentityHashMap<Course, Integer>(sections.size() * 4 / 3 + 1);
+		this.rows = new BitSet[sections.size()];
+		for (int id = 0; id < rows.length; id++) {
+			ids.putIfAbsent(this.sections.get(id), id);
+			rows[id] = new BitSet();
+		}
+
+		IntStream.range(0, Activity.DAYS_IN_WEEK).parallel().forEach(this::sweep);
+		// A section that meets at all conflicts with itself
+		for (int id = 0; id < rows.length; id++) {
+			if (this.sections.get(id).getStartTime() != 0) {
+				rows[id].set(id);
+			}
+		}
+	}
+
+	/**
+	 * Finds the sections that conflict on a day and adds them to the rows
+	 *
+	 * @param day index of the day, which is its bit in a day mask
+	 */
+	private void sweep(int day) {
+		ArrayList<Integer> meeting = new ArrayList<Integer>();
+		for (int id = 0; id < sections.size(); id++) {
+			Course c = sections.get(id);
+			if (c.getStartTime() != 0 && (c.getMeetingDaysMask() & 1 << day) != 0) {
+				meeting.add(id);
+			}
+		}
+		meeting.sort((a, b) -> Integer.compare(sections.get(a).getStartTime(), sections.get(b).getStartTime()));
+
+		// Rows of the sections meeting this day, indexed by position in meeting
+		BitSet[] dayRows = new BitSet[meeting.size()];
+		ArrayList<Integer> running = new ArrayList<Integer>();
+		for (int i = 0; i < dayRows.length; i++) {
+			dayRows[i] = new BitSet();
+			int id = meeting.get(i);
+			int start = sections.get(id).getStartTime();
+			// Times include the end time, so a section ending at start still conflicts
+			running.removeIf(other -> sections.get(meeting.get(other)).getEndTime() < start);
+			for (int other : running) {
+				dayRows[other].set(id);
+				dayRows[i].set(meeting.get(other));
+			}
+			running.add(i);
+		}
+
+		synchronized (rows) {
+			for (int i = 0; i < dayRows.length; i++) {
+				rows[meeting.get(i)].or(dayRows[i]);
+			}
+		}
+	}
+
+	/**
+	 * Checks if two sections conflict. Sections that are not in the catalog are
+	 * compared directly.
+	 *
+	 * @param a a section
+	 * @param b another section
+	 * @return true if a.conflictsWith(b) is true
+	 */
+	boolean conflicts(Course a, Course b) {
+		Integer idA = ids.get(a);
+		Integer idB = ids.get(b);
+		if (idA == null || idB == null) {
+			return a.conflictsWith(b);
+		}
+		return rows[idA].get(idB);
+	}
+
+	/**
+	 * Lists the sections that conflict with a section
+	 *
+	 * @param course a catalog section
+	 * @return the other sections it conflicts with in catalog order, which is
+	 *         empty if it is not in the catalog
+	 */
+	ArrayList<Course> getConflicts(Course course) {
+		ArrayList<Course> found = new ArrayList<Course>();
+		Integer id = ids.get(course);
+		if (id == null) {
+			return found;
+		}
+		BitSet row = rows[id];
+		for (int other = row.nextSetBit(0); other >= 0; other = row.nextSetBit(other + 1)) {
+			if (other != id) {
+				found.add(sections.get(other));
+			}
+		}
+		return found;
+	}
+
+}
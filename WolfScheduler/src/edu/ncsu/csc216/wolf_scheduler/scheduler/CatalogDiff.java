@@ -0,0 +1,144 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseCatalogBuilder;
+
+/**
+ * Differences between two versions of a catalog, matched on name and section.
+ * A section is added if it is only in the new catalog, removed if it is only in
+ * the old catalog, and changed if it is in both but any of its fields differ.
+ *
+ * Also builds the catalog to swap in: it is in the order of the new catalog,
+ * but sections that did not change keep their Course from the old catalog, so
+ * Courses already in a schedule stay the same objects.
+ *
+ * @author Yash Agarwal
+ */
+public class CatalogDiff {
+
+	/** Sections only in the new catalog */
+	private ArrayList<Course> added;
+	/** Sections only in the old catalog */
+	private ArrayList<Course> removed;
+	/** New versions of sections whose fields changed */
+	private ArrayList<Course> changed;
+	/** Scheduled Courses whose sections were removed */
+	private ArrayList<Course> removedFromSchedule;
+	/** Catalog to swap in */
+	private ArrayList<Course> catalog;
+
+	/**
+	 * Computes the differences between oldCatalog and newCatalog and finds the
+	 * Courses in schedule whose sections were removed
+	 *
+	 * @param oldCatalog the catalog in use
+	 * @param newCatalog the catalog just read
+	 * @param schedule   the schedule built from oldCatalog
+	 */
+	CatalogDiff(List<Course> oldCatalog, List<Course> newCatalog, List<Activity> schedule) {
+		added = new ArrayList<Course>();
+		removed = new ArrayList<Course>();
+		changed = new ArrayList<Course>();
+		removedFromSchedule = new ArrayList<Course>();
+		catalog = new ArrayList<Course>(newCatalog.size());
+
+		HashMap<String, Course> oldSections = new HashMap<String, Course>();
+		for (Course c : oldCatalog) {
+			oldSections.put(CourseCatalogBuilder.key(c.getName(), c.getSection()), c);
+		}
+
+		HashMap<String, Course> newSections = new HashMap<String, Course>();
+		for (Course c : newCatalog) {
+			String key = CourseCatalogBuilder.key(c.getName(), c.getSection());
+			newSections.put(key, c);
+			Course old = oldSections.get(key);
+			if (old == null) {
+				added.add(c);
+				catalog.add(c);
+			} else if (old.equals(c)) {
+				catalog.add(old);
+			} else {
+				changed.add(c);
+				catalog.add(c);
+			}
+		}
+
+		for (Course c : oldCatalog) {
+			if (!newSections.containsKey(CourseCatalogBuilder.key(c.getName(), c.getSection()))) {
+				removed.add(c);
+			}
+		}
+
+		for (Activity a : schedule) {
+			if (a instanceof Course) {
+				Course c = (Course) a;
+				if (!newSections.containsKey(CourseCatalogBuilder.key(c.getName(), c.getSection()))) {
+					removedFromSchedule.add(c);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the sections that are only in the new catalog
+	 *
+	 * @return unmodifiable list of added sections
+	 */
+	public List<Course> getAdded() {
+		return Collections.unmodifiableList(added);
+	}
+
+	/**
+	 * Returns the sections that are only in the old catalog
+	 *
+	 * @return unmodifiable list of removed sections
+	 */
+	public List<Course> getRemoved() {
+		return Collections.unmodifiableList(removed);
+	}
+
+	/**
+	 * Returns the new versions of sections that are in both catalogs but have
+	 * different fields
+	 *
+	 * @return unmodifiable list of changed sections
+	 */
+	public List<Course> getChanged() {
+		return Collections.unmodifiableList(changed);
+	}
+
+	/**
+	 * Returns the Courses in the schedule whose sections are no longer in the
+	 * catalog
+	 *
+	 * @return unmodifiable list of scheduled Courses that were removed
+	 */
+	public List<Course> getRemovedFromSchedule() {
+		return Collections.unmodifiableList(removedFromSchedule);
+	}
+
+	/**
+	 * Checks if the catalogs have any differences
+	 *
+	 * @return true if any section was added, removed, or changed
+	 */
+	public boolean hasChanges() {
+		return !added.isEmpty() || !removed.isEmpty() || !changed.isEmpty();
+	}
+
+	/**
+	 * Returns the catalog to swap in
+	 *
+	 * @return the new catalog, reusing unchanged Courses from the old catalog
+	 */
+	ArrayList<Course> getCatalog() {
+		return catalog;
+	}
+
+}
@@ -0,0 +1,349 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseCatalogBuilder;
+
+/**
+ * A loaded catalog together with the indexes built over it. The indexes never
+ * change once built, so a WolfScheduler swaps a whole CatalogIndex when its
+ * catalog is reloaded and the catalog and its indexes always agree.
+ *
+ * Only the lookup by name and section is built with the catalog, since adding
+ * a Course needs it. Every other index is built the first time it is used, so
+ * loading a catalog, or reloading it, does not pay for indexes that are never
+ * asked for.
+ *
+ * @author Yash Agarwal
+ */
+class CatalogIndex {
+
+	/** Format of a Course name from its department and number */
+	private static final String NAME_FORMAT = "%s %03d";
+	/** Lowest course number */
+	private static final int MIN_NUMBER = 0;
+	/** Highest course number */
+	private static final int MAX_NUMBER = 999;
+
+	/** Courses in catalog order */
+	private ArrayList<Course> courses;
+	/** Course for each name and section key */
+	private HashMap<String, Course> sections;
+	/** First Course with each name and section, in catalog order */
+	private ArrayList<Course> distinct;
+	/**
+	 * Courses ordered by department, number, and section. The keys are name and
+	 * section keys, which sort that way because a department always ends with a
+	 * space and a number is always 3 digits.
+	 */
+	private Lazy<TreeMap<String, Course>> ordered;
+	/** Number of sections in each department */
+	private Lazy<HashMap<String, Integer>> departmentSizes;
+	/** Sections taught by each instructor, in catalog order */
+	private Lazy<HashMap<String, ArrayList<Course>>> instructors;
+	/** Sections by the days and times they meet */
+	private Lazy<TimeSlotIndex> timeSlots;
+	/** Sections by the words in their titles */
+	private Lazy<TitleSearchIndex> titleSearch;
+	/** Positions of the Courses in the order of each sort key, indexed by key */
+	private ArrayList<Lazy<int[]>> sortOrders;
+	/** Completions of the starts of names and titles */
+	private Lazy<AutocompleteIndex> completions;
+	/** Conflicts between every two sections */
+	private Lazy<CatalogConflictMatrix> conflicts;
+
+	/**
+	 * An index that is built the first time it is asked for. Checks twice, the
+	 * second time under a lock, so the index is built once even when several
+	 * threads ask for it at the same time.
+	 *
+	 * @param <T> type of the index
+	 */
+	private static class Lazy<T> {
+
+		/** Builds the index */
+		private Supplier<T> builder;
+		/** The index, or null until it is built */
+		private volatile T value;
+
+		/**
+		 * Constructs an index that has not been built
+		 *
+		 * @param builder builds the index
+		 */
+		Lazy(Supplier<T> builder) {
+			this.builder = builder;
+		}
+
+		/**
+		 * Returns the index, building it if this is the first time
+		 *
+		 * @return the index
+		 */
+		T get() {
+			T index = value;
+			if (index == null) {
+				synchronized (this) {
+					index = value;
+					if (index == null) {
+						index = builder.get();
+						value = index;
+						builder = null;
+					}
+				}
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * Builds the lookup by name and section over courses. The other indexes are
+	 * built when they are first used.
+	 *
+	 * @param courses the catalog, which must not be changed afterwards
+	 */
+	CatalogIndex(ArrayList<Course> courses) {
+		this.courses = courses;
+		this.sections = new HashMap<String, Course>(courses.size() * 4 / 3 + 1);
+		this.distinct = new ArrayList<Course>(courses.size());
+		for (Course c : courses) {
+			// Keep the first Course with a name and section, like a scan of the list
+			if (sections.putIfAbsent(CourseCatalogBuilder.key(c.getName(), c.getSection()), c) == null) {
+				distinct.add(c);
+			}
+		}
+
+		this.ordered = new Lazy<TreeMap<String, Course>>(() -> {
+			TreeMap<String, Course> map = new TreeMap<String, Course>();
+			for (Course c : distinct) {
+				map.put(CourseCatalogBuilder.key(c.getName(), c.getSection()), c);
+			}
+			return map;
+		});
+		this.departmentSizes = new Lazy<HashMap<String, Integer>>(() -> {
+			HashMap<String, Integer> sizes = new HashMap<String, Integer>();
+			for (Course c : distinct) {
+				sizes.merge(departmentOf(c), 1, Integer::sum);
+			}
+			return sizes;
+		});
+		this.instructors = new Lazy<HashMap<String, ArrayList<Course>>>(() -> {
+			HashMap<String, ArrayList<Course>> taught = new HashMap<String, ArrayList<Course>>();
+			for (Course c : distinct) {
+				taught.computeIfAbsent(c.getInstructorId(), id -> new ArrayList<Course>()).add(c);
+			}
+			return taught;
+		});
+		this.timeSlots = new Lazy<TimeSlotIndex>(() -> {
+			TimeSlotIndex index = new TimeSlotIndex();
+			for (Course c : distinct) {
+				index.add(c);
+			}
+			return index;
+		});
+		this.titleSearch = new Lazy<TitleSearchIndex>(() -> {
+			TitleSearchIndex index = new TitleSearchIndex();
+			for (Course c : distinct) {
+				index.add(c);
+			}
+			return index;
+		});
+		this.sortOrders = new ArrayList<Lazy<int[]>>();
+		for (CatalogSortKey key : CatalogSortKey.values()) {
+			sortOrders.add(new Lazy<int[]>(() -> sortOrder(courses, key)));
+		}
+		this.completions = new Lazy<AutocompleteIndex>(() -> new AutocompleteIndex(courses));
+		this.conflicts = new Lazy<CatalogConflictMatrix>(() -> new CatalogConflictMatrix(courses));
+	}
+
+	/**
+	 * Returns the Courses in catalog order
+	 *
+	 * @return the catalog
+	 */
+	ArrayList<Course> getCourses() {
+		return courses;
+	}
+
+	/**
+	 * Returns the Course with the given name and section
+	 *
+	 * @param name    name of the Course
+	 * @param section section of the Course
+	 * @return the Course, or null if it is not in the catalog
+	 */
+	Course getCourse(String name, String section) {
+		if (name == null || section == null) {
+			return null;
+		}
+		return sections.get(CourseCatalogBuilder.key(name, section));
+	}
+
+	/**
+	 * Returns the sections taught by an instructor
+	 *
+	 * @param instructorId id of the instructor
+	 * @return unmodifiable view of the sections in catalog order, which is empty if
+	 *         the instructor teaches no sections
+	 */
+	List<Course> getInstructorSections(String instructorId) {
+		ArrayList<Course> taught = instructors.get().get(instructorId);
+		if (taught == null) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(taught);
+	}
+
+	/**
+	 * Returns the number of sections in a department without listing them
+	 *
+	 * @param department department prefix, such as "CSC"
+	 * @return the number of sections in the department
+	 */
+	int getDepartmentSize(String department) {
+		return departmentSizes.get().getOrDefault(department, 0);
+	}
+
+	/**
+	 * Returns the sections of every Course in a department, ordered by number and
+	 * section
+	 *
+	 * @param department department prefix, such as "CSC"
+	 * @return the sections in the department
+	 */
+	ArrayList<Course> getDepartment(String department) {
+		if (department == null) {
+			return new ArrayList<Course>();
+		}
+		// Every name in the department starts with the department and a space
+		return new ArrayList<Course>(ordered.get().subMap(department + " ", department + "!").values());
+	}
+
+	/**
+	 * Returns the sections of the Courses in a department with numbers from low to
+	 * high, ordered by number and section
+	 *
+	 * @param department department prefix, such as "CSC"
+	 * @param low        lowest course number, inclusive
+	 * @param high       highest course number, inclusive
+	 * @return the sections in the range
+	 */
+	ArrayList<Course> getNumberRange(String department, int low, int high) {
+		low = Math.max(low, MIN_NUMBER);
+		high = Math.min(high, MAX_NUMBER);
+		if (department == null || low > high) {
+			return new ArrayList<Course>();
+		}
+		// Keys of a name run from name + "," up to, but not including, name + "-"
+		String from = CourseCatalogBuilder.key(String.format(Locale.ROOT, NAME_FORMAT, department, low), "");
+		String to = String.format(Locale.ROOT, NAME_FORMAT, department, high) + "-";
+		return new ArrayList<Course>(ordered.get().subMap(from, true, to, false).values());
+	}
+
+	/**
+	 * Returns the index of sections by the days and times they meet
+	 *
+	 * @return the time slot index
+	 */
+	TimeSlotIndex getTimeSlots() {
+		return timeSlots.get();
+	}
+
+	/**
+	 * Returns the index of sections by the words in their titles
+	 *
+	 * @return the title search index
+	 */
+	TitleSearchIndex getTitleSearch() {
+		return titleSearch.get();
+	}
+
+	/**
+	 * Returns the index of completions of names and titles
+	 *
+	 * @return the autocomplete index
+	 */
+	AutocompleteIndex getCompletions() {
+		return completions.get();
+	}
+
+	/**
+	 * Returns the conflicts between every two sections
+	 *
+	 * @return the conflict matrix
+	 */
+	CatalogConflictMatrix getConflicts() {
+		return conflicts.get();
+	}
+
+	/**
+	 * Returns a page of the Courses in the order of a sort key
+	 *
+	 * @param key    order of the Courses
+	 * @param offset number of Courses to skip
+	 * @param limit  largest number of Courses to return
+	 * @return the Courses on the page, which is empty if offset is past the end
+	 */
+	ArrayList<Course> getPage(CatalogSortKey key, int offset, int limit) {
+		int[] order = sortOrders.get(key.ordinal()).get();
+		int end = (int) Math.min(order.length, (long) offset + limit);
+		ArrayList<Course> page = new ArrayList<Course>(Math.max(0, end - offset));
+		for (int i = offset; i < end; i++) {
+			page.add(courses.get(order[i]));
+		}
+		return page;
+	}
+
+	/**
+	 * Returns the department of a Course, the letters before the space in its name
+	 *
+	 * @param course a Course
+	 * @return the department prefix of its name
+	 */
+	static String departmentOf(Course course) {
+		String name = course.getName();
+		return name.substring(0, name.indexOf(' '));
+	}
+
+	/**
+	 * Returns the number of a Course, the digits after the space in its name
+	 *
+	 * @param course a Course
+	 * @return the course number
+	 */
+	static int numberOf(Course course) {
+		String name = course.getName();
+		return Integer.parseInt(name.substring(name.indexOf(' ') + 1));
+	}
+
+	/**
+	 * Finds the positions of courses in the order of a sort key
+	 *
+	 * @param courses the catalog
+	 * @param key     order of the Courses
+	 * @return positions in courses, in sorted order
+	 */
+	private static int[] sortOrder(ArrayList<Course> courses, CatalogSortKey key) {
+		Integer[] positions = new Integer[courses.size()];
+		for (int i = 0; i < positions.length; i++) {
+			positions[i] = i;
+		}
+		// Arrays.sort() is stable for objects, so ties stay in catalog order
+		Arrays.sort(positions, (a, b) -> key.getOrder().compare(courses.get(a), courses.get(b)));
+
+		int[] order = new int[positions.length];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = positions[i];
+		}
+		return order;
+	}
+
+}
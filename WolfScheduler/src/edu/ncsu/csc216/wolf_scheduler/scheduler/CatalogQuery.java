@@ -0,0 +1,368 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * A compiled catalog filter. A query is a list of terms separated by spaces,
+ * such as "dept=CSC credits>=3 days~MW start>=0900 instructor=sesmith5", and a
+ * Course matches when it matches every term. Each term is a field, an
+ * operator, and a value:
+ * <ul>
+ * <li>dept, section, and instructor compare with = and !=</li>
+ * <li>title compares with = and !=, ignoring case, and ~ for a title that
+ * contains the value. The value may have spaces, and runs until the next word
+ * that is a field and operator, so "title=Software Development Fundamentals
+ * credits=3" has two terms. Spaces in the value are matched as single
+ * spaces.</li>
+ * <li>days compares with = and !=, and ~ for a Course that meets on every day
+ * in the value</li>
+ * <li>number, credits, start, and end compare with =, !=, &lt;, &lt;=, &gt;,
+ * and &gt;=</li>
+ * </ul>
+ *
+ * Compiling turns each term into a Predicate. Running a query starts from the
+ * most selective index its terms can use: an instructor's sections, a
+ * department's sections narrowed to the number range of the query, or the
+ * title search, and only falls back to the whole catalog when no term can use
+ * an index. The remaining terms filter those sections, in parallel when there
+ * are many of them.
+ *
+ * @author Yash Agarwal
+ */
+public class CatalogQuery {
+
+	/** Form of a term: a field, an operator, and a value */
+	private static final Pattern TERM = Pattern.compile("([a-z]+)(<=|>=|!=|=|<|>|~)(.+)");
+	/** Number of sections at which the terms are checked in parallel */
+	private static final int PARALLEL_THRESHOLD = 4096;
+	/** Lowest course number */
+	private static final int MIN_NUMBER = 0;
+	/** Highest course number */
+	private static final int MAX_NUMBER = 999;
+	/** Shortest title search the title index can narrow down */
+	private static final int MIN_TITLE_SEARCH = 3;
+
+	/** Predicates of every term */
+	private ArrayList<Predicate<Course>> predicates;
+	/** Instructor the query requires, or null */
+	private String instructor;
+	/** Department the query requires, or null */
+	private String department;
+	/** Lowest course number the query allows */
+	private int lowNumber;
+	/** Highest course number the query allows */
+	private int highNumber;
+	/** Longest text the titles must contain, or null */
+	private String titleSearch;
+
+	/**
+	 * Constructs an empty query that matches every Course
+	 */
+	private CatalogQuery() {
+		predicates = new ArrayList<Predicate<Course>>();
+		lowNumber = MIN_NUMBER;
+		highNumber = MAX_NUMBER;
+	}
+
+	/**
+	 * Compiles a query
+	 *
+	 * @param query terms separated by spaces
+	 * @return the compiled query
+	 * @throws IllegalArgumentException if query is null or a term is invalid
+	 */
+	public static CatalogQuery compile(String query) {
+		if (query == null) {
+			throw new IllegalArgumentException("Invalid query.");
+		}
+		CatalogQuery compiled = new CatalogQuery();
+		String term = null;
+		for (String word : query.trim().split("\\s+")) {
+			if (word.isEmpty()) {
+				continue;
+			}
+			if (term != null && isTitleTerm(term) && !TERM.matcher(word).matches()) {
+				// A title runs on until the next field and operator
+				term += " " + word;
+			} else {
+				if (term != null) {
+					compiled.addTerm(term);
+				}
+				term = word;
+			}
+		}
+		if (term != null) {
+			compiled.addTerm(term);
+		}
+		return compiled;
+	}
+
+	/**
+	 * Checks if a term compares the title, so its value may go on past a space
+	 *
+	 * @param term a term read so far
+	 * @return true if the field of the term is title
+	 */
+	private static boolean isTitleTerm(String term) {
+		Matcher m = TERM.matcher(term);
+		return m.matches() && "title".equals(m.group(1));
+	}
+
+	/**
+	 * Compiles a term and adds it to the query
+	 *
+	 * @param term a field, operator, and value
+	 * @throws IllegalArgumentException if the term is invalid
+	 */
+	private void addTerm(String term) {
+		Matcher m = TERM.matcher(term);
+		if (!m.matches()) {
+			throw new IllegalArgumentException("Invalid query.");
+		}
+		String field = m.group(1);
+		String op = m.group(2);
+		String value = m.group(3);
+
+		switch (field) {
+		case "dept":
+			predicates.add(compare(CatalogIndex::departmentOf, op, value));
+			if ("=".equals(op)) {
+				department = value;
+			}
+			break;
+		case "section":
+			predicates.add(compare(Course::getSection, op, value));
+			break;
+		case "instructor":
+			predicates.add(compare(Course::getInstructorId, op, value));
+			if ("=".equals(op)) {
+				instructor = value;
+			}
+			break;
+		case "title":
+			predicates.add(compareTitle(op, value));
+			if ("~".equals(op) && (titleSearch == null || value.length() > titleSearch.length())) {
+				titleSearch = value;
+			}
+			break;
+		case "days":
+			predicates.add(compareDays(op, value));
+			break;
+		case "number":
+			int number = parseInt(value);
+			predicates.add(compare(CatalogIndex::numberOf, op, number));
+			narrowNumbers(op, number);
+			break;
+		case "credits":
+			predicates.add(compare(Course::getCredits, op, parseInt(value)));
+			break;
+		case "start":
+			predicates.add(compare(Course::getStartTime, op, parseInt(value)));
+			break;
+		case "end":
+			predicates.add(compare(Course::getEndTime, op, parseInt(value)));
+			break;
+		default:
+			throw new IllegalArgumentException("Invalid query.");
+		}
+	}
+
+	/**
+	 * Runs the query against a catalog
+	 *
+	 * @param catalog catalog and its indexes
+	 * @return the matching Courses, ordered by name and section
+	 */
+	ArrayList<Course> run(CatalogIndex catalog) {
+		List<Course> candidates = selectCandidates(catalog);
+		Stream<Course> stream = candidates.size() >= PARALLEL_THRESHOLD ? candidates.parallelStream()
+				: candidates.stream();
+
+		Predicate<Course> all = c -> true;
+		for (Predicate<Course> p : predicates) {
+			all = all.and(p);
+		}
+		return stream.filter(all).sorted(CatalogSortKey.NAME.getOrder())
+				.collect(Collectors.toCollection(ArrayList::new));
+	}
+
+	/**
+	 * Chooses the smallest set of sections an index can narrow the query to
+	 *
+	 * @param catalog catalog and its indexes
+	 * @return sections that include every match
+	 */
+	private List<Course> selectCandidates(CatalogIndex catalog) {
+		if (lowNumber > highNumber) {
+			return new ArrayList<Course>();
+		}
+		List<Course> best = null;
+		if (instructor != null) {
+			best = catalog.getInstructorSections(instructor);
+		}
+		if (department != null && (best == null || catalog.getDepartmentSize(department) < best.size())) {
+			best = catalog.getNumberRange(department, lowNumber, highNumber);
+		}
+		if (best == null && titleSearch != null && titleSearch.length() >= MIN_TITLE_SEARCH) {
+			best = catalog.getTitleSearch().search(titleSearch);
+		}
+		return best == null ? catalog.getCourses() : best;
+	}
+
+	/**
+	 * Narrows the number range the department index is searched with
+	 *
+	 * @param op     comparison of the number term
+	 * @param number value of the number term
+	 */
+	private void narrowNumbers(String op, int number) {
+		// Keep number + 1 and number - 1 from overflowing
+		number = Math.max(MIN_NUMBER - 1, Math.min(MAX_NUMBER + 1, number));
+		switch (op) {
+		case "=":
+			lowNumber = Math.max(lowNumber, number);
+			highNumber = Math.min(highNumber, number);
+			break;
+		case ">=":
+			lowNumber = Math.max(lowNumber, number);
+			break;
+		case ">":
+			lowNumber = Math.max(lowNumber, number + 1);
+			break;
+		case "<=":
+			highNumber = Math.min(highNumber, number);
+			break;
+		case "<":
+			highNumber = Math.min(highNumber, number - 1);
+			break;
+		default:
+			// != does not narrow the range
+		}
+	}
+
+	/**
+	 * Compiles a comparison of a text field
+	 *
+	 * @param field gets the field from a Course
+	 * @param op    = or !=
+	 * @param value value to compare with
+	 * @return predicate for the term
+	 * @throws IllegalArgumentException if op does not apply to text
+	 */
+	private static Predicate<Course> compare(Function<Course, String> field, String op, String value) {
+		switch (op) {
+		case "=":
+			return c -> value.equals(field.apply(c));
+		case "!=":
+			return c -> !value.equals(field.apply(c));
+		default:
+			throw new IllegalArgumentException("Invalid query.");
+		}
+	}
+
+	/**
+	 * Compiles a comparison of a number field
+	 *
+	 * @param field gets the field from a Course
+	 * @param op    =, !=, &lt;, &lt;=, &gt;, or &gt;=
+	 * @param value value to compare with
+	 * @return predicate for the term
+	 * @throws IllegalArgumentException if op is ~
+	 */
+	private static Predicate<Course> compare(ToIntFunction<Course> field, String op, int value) {
+		switch (op) {
+		case "=":
+			return c -> field.applyAsInt(c) == value;
+		case "!=":
+			return c -> field.applyAsInt(c) != value;
+		case "<":
+			return c -> field.applyAsInt(c) < value;
+		case "<=":
+			return c -> field.applyAsInt(c) <= value;
+		case ">":
+			return c -> field.applyAsInt(c) > value;
+		case ">=":
+			return c -> field.applyAsInt(c) >= value;
+		default:
+			throw new IllegalArgumentException("Invalid query.");
+		}
+	}
+
+	/**
+	 * Compiles a comparison of the title, ignoring case
+	 *
+	 * @param op    =, !=, or ~
+	 * @param value value to compare with
+	 * @return predicate for the term
+	 * @throws IllegalArgumentException if op does not apply to titles
+	 */
+	private static Predicate<Course> compareTitle(String op, String value) {
+		String lower = value.toLowerCase(Locale.ROOT);
+		switch (op) {
+		case "=":
+			return c -> c.getTitle().equalsIgnoreCase(value);
+		case "!=":
+			return c -> !c.getTitle().equalsIgnoreCase(value);
+		case "~":
+			return c -> c.getTitle().toLowerCase(Locale.ROOT).contains(lower);
+		default:
+			throw new IllegalArgumentException("Invalid query.");
+		}
+	}
+
+	/**
+	 * Compiles a comparison of the meeting days
+	 *
+	 * @param op    =, !=, or ~
+	 * @param value value to compare with
+	 * @return predicate for the term
+	 * @throws IllegalArgumentException if op does not apply to meeting days
+	 */
+	private static Predicate<Course> compareDays(String op, String value) {
+		switch (op) {
+		case "=":
+			return c -> value.equals(c.getMeetingDays());
+		case "!=":
+			return c -> !value.equals(c.getMeetingDays());
+		case "~":
+			return c -> {
+				String days = c.getMeetingDays();
+				for (int i = 0; i < value.length(); i++) {
+					if (days.indexOf(value.charAt(i)) < 0) {
+						return false;
+					}
+				}
+				return true;
+			};
+		default:
+			throw new IllegalArgumentException("Invalid query.");
+		}
+	}
+
+	/**
+	 * Parses the value of a number field
+	 *
+	 * @param value value of the term
+	 * @return the number
+	 * @throws IllegalArgumentException if value is not a number
+	 */
+	private static int parseInt(String value) {
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid query.");
+		}
+	}
+
+}
@@ -0,0 +1,48 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.Comparator;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Orders a catalog can be viewed in. Courses that tie on the key are ordered by
+ * name and section, and Courses that tie on those stay in catalog order.
+ *
+ * @author Yash Agarwal
+ */
+public enum CatalogSortKey {
+
+	/** By name, then section */
+	NAME(Comparator.comparing(Course::getName)),
+	/** By title */
+	TITLE(Comparator.comparing(Course::getTitle)),
+	/** By instructor id */
+	INSTRUCTOR(Comparator.comparing(Course::getInstructorId)),
+	/** By start time, with arranged courses first */
+	START_TIME(Comparator.comparingInt(Course::getStartTime)),
+	/** By credit hours */
+	CREDITS(Comparator.comparingInt(Course::getCredits));
+
+	/** Order of the Courses, including the name and section tie breakers */
+	private final Comparator<Course> order;
+
+	/**
+	 * Constructs a sort key that orders Courses by key and then by name and
+	 * section
+	 *
+	 * @param key primary order of the Courses
+	 */
+	CatalogSortKey(Comparator<Course> key) {
+		this.order = key.thenComparing(Course::getName).thenComparing(Course::getSection);
+	}
+
+	/**
+	 * Returns the order of the Courses for this key
+	 *
+	 * @return comparator for the Courses
+	 */
+	Comparator<Course> getOrder() {
+		return order;
+	}
+
+}
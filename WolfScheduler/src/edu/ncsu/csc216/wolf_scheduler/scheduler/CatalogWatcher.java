@@ -0,0 +1,174 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Watches a WolfScheduler's catalog file with a WatchService and reloads the
+ * catalog whenever the file changes. Runs on its own daemon thread until it is
+ * closed. After each reload, the listener is given the CatalogDiff of what
+ * changed.
+ *
+ * A catalog file being written in place may pause partway through, and reading
+ * it then would drop the missing sections and report them as removed. So the
+ * catalog is only reloaded once the size and modification time of the file
+ * have stayed the same for SETTLE_MILLIS. If they have not, the writer is still
+ * going and its next change event brings the watcher back to try again.
+ *
+ * @author Yash Agarwal
+ */
+public class CatalogWatcher implements Closeable {
+
+	/**
+	 * Time to wait for a burst of change events to end, and for the file to stay
+	 * the same, before reloading
+	 */
+	private static final long SETTLE_MILLIS = 100;
+
+	/** Scheduler whose catalog is reloaded */
+	private WolfScheduler scheduler;
+	/** The catalog file */
+	private Path file;
+	/** Name of the catalog file within its directory */
+	private Path fileName;
+	/** Called after each reload */
+	private Consumer<CatalogDiff> listener;
+	/** Service watching the directory of the catalog file */
+	private WatchService watchService;
+	/** Thread waiting for change events */
+	private Thread thread;
+
+	/**
+	 * Starts watching file and reloading the catalog of scheduler when it changes
+	 *
+	 * @param scheduler scheduler whose catalog is reloaded
+	 * @param file      the catalog file
+	 * @param listener  called with the differences after each reload
+	 * @throws IOException if the directory of file cannot be watched
+	 */
+	CatalogWatcher(WolfScheduler scheduler, Path file, Consumer<CatalogDiff> listener) throws IOException {
+		this.scheduler = scheduler;
+		this.file = file.toAbsolutePath();
+		this.fileName = file.getFileName();
+		this.listener = listener;
+
+		Path directory = file.toAbsolutePath().getParent();
+		watchService = FileSystems.getDefault().newWatchService();
+		directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+				StandardWatchEventKinds.ENTRY_MODIFY);
+
+		thread = new Thread(this::watch, "CatalogWatcher-" + fileName);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Waits for the catalog file to change and reloads it, until the watcher is
+	 * closed
+	 */
+	private void watch() {
+		try {
+			while (true) {
+				WatchKey key = watchService.take();
+				boolean catalogChanged = handleEvents(key);
+
+				// Collect the rest of a burst of events so the file is read once
+				while ((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+					catalogChanged |= handleEvents(key);
+				}
+
+				if (catalogChanged && isSettled()) {
+					reload();
+				}
+			}
+		} catch (ClosedWatchServiceException e) {
+			// The watcher was closed
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Checks the events of key for a change to the catalog file and resets the key
+	 *
+	 * @param key key with pending events
+	 * @return true if one of the events was for the catalog file
+	 */
+	private boolean handleEvents(WatchKey key) {
+		boolean catalogChanged = false;
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context())) {
+				catalogChanged = true;
+			}
+		}
+		key.reset();
+		return catalogChanged;
+	}
+
+	/**
+	 * Checks that the catalog file stays the same size with the same modification
+	 * time for SETTLE_MILLIS
+	 *
+	 * @return true if the file did not change, false if it changed or cannot be
+	 *         read
+	 * @throws InterruptedException if the watcher is interrupted while waiting
+	 */
+	private boolean isSettled() throws InterruptedException {
+		try {
+			BasicFileAttributes before = Files.readAttributes(file, BasicFileAttributes.class);
+			Thread.sleep(SETTLE_MILLIS);
+			BasicFileAttributes after = Files.readAttributes(file, BasicFileAttributes.class);
+			return before.size() == after.size() && before.lastModifiedTime().equals(after.lastModifiedTime());
+		} catch (IOException e) {
+			// The file is missing, for instance while it is being replaced
+			return false;
+		}
+	}
+
+	/**
+	 * Reloads the catalog and passes the differences to the listener. If the file
+	 * cannot be read, the current catalog is kept until the next change. Nothing
+	 * a reload or the listener throws stops the watcher.
+	 */
+	private void reload() {
+		CatalogDiff diff;
+		try {
+			diff = scheduler.reloadCatalog();
+		} catch (RuntimeException | InternalError e) {
+			// The file could not be read, or a mapped file was cut short while it
+			// was read, so keep the current catalog
+			return;
+		}
+		if (listener != null) {
+			try {
+				listener.accept(diff);
+			} catch (RuntimeException e) {
+				// A failing listener must not end the watcher
+			}
+		}
+	}
+
+	/**
+	 * Stops watching the catalog file
+	 */
+	@Override
+	public void close() {
+		try {
+			watchService.close();
+		} catch (IOException e) {
+			// The service is being discarded, so there is nothing to recover
+		}
+	}
+
+}
@@ -0,0 +1,115 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Indexes the Activities in a schedule so adding to the schedule does not have
+ * to walk all of it. Keeps the names of the enrolled Courses and the titles of
+ * the Events for the duplicate checks, and a WeeklyOccupancy bitmap of the
+ * minutes the Activities take for the conflict check, so a new Activity is
+ * checked with a few ANDs per day instead of being compared with every
+ * scheduled Activity. A ScheduleTimeline lists the Activities a conflict is
+ * with.
+ *
+ * @author Yash Agarwal
+ */
+class ScheduleIndex {
+
+	/** Names of the Courses in the schedule */
+	private HashSet<String> enrolledNames;
+	/** Titles of the Events in the schedule */
+	private HashSet<String> eventTitles;
+	/** Minutes of the week taken by the scheduled Activities */
+	private WeeklyOccupancy occupancy;
+	/** Scheduled Activities by day and time */
+	private ScheduleTimeline timeline;
+
+	/**
+	 * Constructs an index of an empty schedule
+	 */
+	ScheduleIndex() {
+		enrolledNames = new HashSet<String>();
+		eventTitles = new HashSet<String>();
+		occupancy = new WeeklyOccupancy();
+		timeline = new ScheduleTimeline();
+	}
+
+	/**
+	 * Checks if a Course with the given name is in the schedule
+	 *
+	 * @param name name of the Course
+	 * @return true if the schedule has a Course with that name
+	 */
+	boolean isEnrolled(String name) {
+		return enrolledNames.contains(name);
+	}
+
+	/**
+	 * Checks if an Event with the given title is in the schedule
+	 *
+	 * @param title title of the Event
+	 * @return true if the schedule has an Event with that title
+	 */
+	boolean hasEvent(String title) {
+		return eventTitles.contains(title);
+	}
+
+	/**
+	 * Checks if activity conflicts with an Activity in the schedule. Gives the
+	 * same answer as calling conflictsWith() on every scheduled Activity. Safe to
+	 * call from several threads at once while the schedule is not being changed.
+	 *
+	 * @param activity Activity that may be added to the schedule
+	 * @return true if activity conflicts with a scheduled Activity
+	 */
+	boolean hasConflict(Activity activity) {
+		return occupancy.overlaps(activity);
+	}
+
+	/**
+	 * Lists the scheduled Activities that activity conflicts with
+	 *
+	 * @param activity Activity that may be added to the schedule
+	 * @return the conflicting Activities, ordered by day and time
+	 */
+	ArrayList<Activity> getConflicts(Activity activity) {
+		return timeline.getOverlapping(activity);
+	}
+
+	/**
+	 * Adds activity, which has just been added to the schedule, to the index
+	 *
+	 * @param activity Activity added to the schedule
+	 */
+	void add(Activity activity) {
+		if (activity instanceof Course) {
+			enrolledNames.add(((Course) activity).getName());
+		} else if (activity instanceof Event) {
+			eventTitles.add(activity.getTitle());
+		}
+		occupancy.occupy(activity);
+		timeline.add(activity);
+	}
+
+	/**
+	 * Removes activity, which has just been removed from the schedule, from the
+	 * index
+	 *
+	 * @param activity Activity removed from the schedule
+	 */
+	void remove(Activity activity) {
+		if (activity instanceof Course) {
+			enrolledNames.remove(((Course) activity).getName());
+		} else if (activity instanceof Event) {
+			eventTitles.remove(activity.getTitle());
+		}
+		occupancy.free(activity);
+		timeline.remove(activity);
+	}
+
+}
@@ -0,0 +1,112 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+
+/**
+ * The Activities in a schedule ordered by time on each day they meet, so the
+ * Activities overlapping a time can be listed without walking the schedule.
+ *
+ * Each day is a TreeMap from start time to Activity. A schedule never holds two
+ * conflicting Activities, so the times on a day never overlap and sorting them
+ * by start time also sorts them by end time. An interval tree over such times
+ * needs no extra bookkeeping: the only Activity starting before a time that
+ * can still be running at it is the last one to start before it, and every
+ * other overlapping Activity starts inside the time. A query is one floor
+ * lookup and one range scan per day, O(log n + k) for k overlapping
+ * Activities.
+ *
+ * Like conflicts, times include both the start and the end time, and
+ * Activities with a start time of 0 never overlap anything and are not kept.
+ *
+ * @author Yash Agarwal
+ */
+class ScheduleTimeline {
+
+	/** Activities on each day by start time, indexed by the day's bit in a day mask */
+	private ArrayList<TreeMap<Integer, Activity>> days;
+
+	/**
+	 * Constructs the timeline of an empty schedule
+	 */
+	ScheduleTimeline() {
+		days = new ArrayList<TreeMap<Integer, Activity>>(Activity.DAYS_IN_WEEK);
+		for (int i = 0; i < Activity.DAYS_IN_WEEK; i++) {
+			days.add(new TreeMap<Integer, Activity>());
+		}
+	}
+
+	/**
+	 * Adds activity to each of its days
+	 *
+	 * @param activity Activity added to the schedule, which conflicts with no
+	 *                 other scheduled Activity
+	 */
+	void add(Activity activity) {
+		if (activity.getStartTime() == 0) {
+			return;
+		}
+		for (int mask = activity.getMeetingDaysMask(); mask != 0; mask &= mask - 1) {
+			days.get(Integer.numberOfTrailingZeros(mask)).put(activity.getStartTime(), activity);
+		}
+	}
+
+	/**
+	 * Removes activity from each of its days
+	 *
+	 * @param activity Activity removed from the schedule
+	 */
+	void remove(Activity activity) {
+		if (activity.getStartTime() == 0) {
+			return;
+		}
+		for (int mask = activity.getMeetingDaysMask(); mask != 0; mask &= mask - 1) {
+			days.get(Integer.numberOfTrailingZeros(mask)).remove(activity.getStartTime(), activity);
+		}
+	}
+
+	/**
+	 * Lists the Activities that overlap activity
+	 *
+	 * @param activity Activity that may be added to the schedule
+	 * @return the overlapping Activities, which is empty if activity starts at 0
+	 */
+	ArrayList<Activity> getOverlapping(Activity activity) {
+		if (activity.getStartTime() == 0) {
+			return new ArrayList<Activity>();
+		}
+		return getOverlapping(activity.getMeetingDaysMask(), activity.getStartTime(), activity.getEndTime());
+	}
+
+	/**
+	 * Lists the Activities that meet on one of the days of dayMask between
+	 * startTime and endTime, ordered by the first of those days they meet on and
+	 * then by time
+	 *
+	 * @param dayMask     day mask of the days to look at
+	 * @param startTime   start of the time in military format
+	 * @param endTime     end of the time in military format
+	 * @return the overlapping Activities, each listed once, which is empty if
+	 *         startTime is after endTime
+	 */
+	ArrayList<Activity> getOverlapping(int dayMask, int startTime, int endTime) {
+		LinkedHashSet<Activity> found = new LinkedHashSet<Activity>();
+		if (startTime > endTime) {
+			return new ArrayList<Activity>();
+		}
+		for (int mask = dayMask; mask != 0; mask &= mask - 1) {
+			TreeMap<Integer, Activity> day = days.get(Integer.numberOfTrailingZeros(mask));
+			Map.Entry<Integer, Activity> before = day.lowerEntry(startTime);
+			if (before != null && before.getValue().getEndTime() >= startTime) {
+				found.add(before.getValue());
+			}
+			found.addAll(day.subMap(startTime, true, endTime, true).values());
+		}
+		return new ArrayList<Activity>(found);
+	}
+
+}
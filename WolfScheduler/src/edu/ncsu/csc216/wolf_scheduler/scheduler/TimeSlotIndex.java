@@ -0,0 +1,168 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Indexes catalog sections by the day and time they meet. Each day is split into
+ * buckets of BUCKET_MINUTES, and every section is listed in each bucket its
+ * meeting touches on each of its days. A section that meets from 1120 to 1310
+ * on MW is in the 1100, 1130, ..., 1300 buckets of Monday and Wednesday.
+ * Arranged sections have no days or times and are kept in their own bucket.
+ *
+ * A query only looks at the buckets it covers, so it never scans the catalog.
+ * Like conflicts, meeting times include both the start and the end time.
+ *
+ * @author Yash Agarwal
+ */
+class TimeSlotIndex {
+
+	/** Length of a time bucket in minutes */
+	private static final int BUCKET_MINUTES = 30;
+	/** Number of buckets in a day */
+	private static final int BUCKETS_PER_DAY = 24 * 60 / BUCKET_MINUTES;
+	/** Meeting days of an arranged section */
+	private static final String ARRANGED = "A";
+
+	/**
+	 * Sections touching each bucket of each day, indexed by the day's bit in a day
+	 * mask, then bucket
+	 */
+	private ArrayList<ArrayList<ArrayList<Course>>> days;
+	/** Sections with arranged meeting days */
+	private ArrayList<Course> arranged;
+
+	/**
+	 * Constructs an empty index
+	 */
+	TimeSlotIndex() {
+		days = new ArrayList<ArrayList<ArrayList<Course>>>(Activity.DAYS_IN_WEEK);
+		for (int i = 0; i < Activity.DAYS_IN_WEEK; i++) {
+			ArrayList<ArrayList<Course>> buckets = new ArrayList<ArrayList<Course>>(BUCKETS_PER_DAY);
+			for (int j = 0; j < BUCKETS_PER_DAY; j++) {
+				buckets.add(new ArrayList<Course>());
+			}
+			days.add(buckets);
+		}
+		arranged = new ArrayList<Course>();
+	}
+
+	/**
+	 * Adds a section to the buckets it meets in
+	 *
+	 * @param course section to add
+	 */
+	void add(Course course) {
+		if (ARRANGED.equals(course.getMeetingDays())) {
+			arranged.add(course);
+			return;
+		}
+		int first = bucket(course.getStartTime());
+		int last = bucket(course.getEndTime());
+		for (int mask = course.getMeetingDaysMask(); mask != 0; mask &= mask - 1) {
+			ArrayList<ArrayList<Course>> buckets = days.get(Integer.numberOfTrailingZeros(mask));
+			for (int b = first; b <= last; b++) {
+				buckets.get(b).add(course);
+			}
+		}
+	}
+
+	/**
+	 * Returns the sections that meet on day at time, in catalog order
+	 *
+	 * @param day  day of the week, one of MTWHFSU
+	 * @param time time in military format
+	 * @return the sections meeting at that time, which is empty if day or time is
+	 *         invalid
+	 */
+	ArrayList<Course> getMeetingAt(char day, int time) {
+		ArrayList<Course> found = new ArrayList<Course>();
+		int dayIndex = Activity.dayIndex(day);
+		if (dayIndex < 0 || !isValidTime(time)) {
+			return found;
+		}
+		for (Course c : days.get(dayIndex).get(bucket(time))) {
+			if (c.getStartTime() <= time && time <= c.getEndTime()) {
+				found.add(c);
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Returns the sections that only meet on the given days and only between
+	 * startTime and endTime, ordered by start time and then end time
+	 *
+	 * @param meetingDays days the sections may meet on, such as "MW"
+	 * @param startTime   earliest start time in military format
+	 * @param endTime     latest end time in military format
+	 * @return the sections inside the window, which is empty if the days or times
+	 *         are invalid
+	 */
+	ArrayList<Course> getWithin(String meetingDays, int startTime, int endTime) {
+		ArrayList<Course> found = new ArrayList<Course>();
+		if (meetingDays == null || !isValidTime(startTime) || !isValidTime(endTime) || startTime > endTime) {
+			return found;
+		}
+		// Unknown and repeated days are ignored
+		int window = 0;
+		for (int i = 0; i < meetingDays.length(); i++) {
+			int day = Activity.dayIndex(meetingDays.charAt(i));
+			if (day >= 0) {
+				window |= 1 << day;
+			}
+		}
+		int first = bucket(startTime);
+		int last = bucket(endTime);
+		for (int mask = window; mask != 0; mask &= mask - 1) {
+			int day = Integer.numberOfTrailingZeros(mask);
+			ArrayList<ArrayList<Course>> buckets = days.get(day);
+			for (int b = first; b <= last; b++) {
+				for (Course c : buckets.get(b)) {
+					int courseDays = c.getMeetingDaysMask();
+					// Take each section once, from its own first day and start bucket
+					if (bucket(c.getStartTime()) == b && Integer.numberOfTrailingZeros(courseDays) == day
+							&& c.getStartTime() >= startTime && c.getEndTime() <= endTime
+							&& (courseDays & ~window) == 0) {
+						found.add(c);
+					}
+				}
+			}
+		}
+		found.sort(Comparator.comparingInt(Course::getStartTime).thenComparingInt(Course::getEndTime));
+		return found;
+	}
+
+	/**
+	 * Returns the sections with arranged meeting days
+	 *
+	 * @return the arranged sections in catalog order
+	 */
+	ArrayList<Course> getArranged() {
+		return new ArrayList<Course>(arranged);
+	}
+
+	/**
+	 * Returns the bucket a time falls in
+	 *
+	 * @param time valid time in military format
+	 * @return index of the bucket in its day
+	 */
+	private static int bucket(int time) {
+		return (time / 100 * 60 + time % 100) / BUCKET_MINUTES;
+	}
+
+	/**
+	 * Checks if time is a valid military time
+	 *
+	 * @param time time to check
+	 * @return true if the hours are 0 to 23 and the minutes are 0 to 59
+	 */
+	private static boolean isValidTime(int time) {
+		return time >= 0 && time / 100 <= 23 && time % 100 <= 59;
+	}
+
+}
@@ -0,0 +1,219 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Locale;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Searches the titles of catalog sections with a trigram inverted index. Each
+ * distinct title is lower cased and given an id, and every three character
+ * substring of it lists the ids of the titles it appears in. A search term of
+ * three or more characters only looks at the titles that contain all of its
+ * trigrams, and then checks that those titles really contain the term. Shorter
+ * terms check every distinct title, which is still far fewer than the sections.
+ *
+ * Every term of a search must appear in a title. Matching titles are ranked by
+ * how well they match: the whole title, then the start of the title, then
+ * terms found at the start of a word, then shorter titles, then catalog order.
+ *
+ * @author Yash Agarwal
+ */
+class TitleSearchIndex {
+
+	/** Length of the substrings that are indexed */
+	private static final int GRAM_LENGTH = 3;
+	/** Score for a term that starts a word in the title */
+	private static final int WORD_START_SCORE = 2;
+	/** Score for a term found inside a word of the title */
+	private static final int SUBSTRING_SCORE = 1;
+	/** Bonus for a search that starts the title */
+	private static final int TITLE_START_BONUS = 10;
+	/** Bonus for a search that is the whole title */
+	private static final int WHOLE_TITLE_BONUS = 20;
+
+	/** Id of each distinct lower cased title */
+	private HashMap<String, Integer> titleIds;
+	/** Lower cased titles in order of their ids */
+	private ArrayList<String> titles;
+	/** Sections with each title, indexed by title id, in catalog order */
+	private ArrayList<ArrayList<Course>> sections;
+	/** Ids of the titles containing each trigram, in increasing order */
+	private HashMap<String, ArrayList<Integer>> postings;
+
+	/**
+	 * Constructs an empty index
+	 */
+	TitleSearchIndex() {
+		titleIds = new HashMap<String, Integer>();
+		titles = new ArrayList<String>();
+		sections = new ArrayList<ArrayList<Course>>();
+		postings = new HashMap<String, ArrayList<Integer>>();
+	}
+
+	/**
+	 * Adds a section to the index
+	 *
+	 * @param course section to add
+	 */
+	void add(Course course) {
+		String title = normalize(course.getTitle());
+		Integer id = titleIds.get(title);
+		if (id == null) {
+			id = titles.size();
+			titleIds.put(title, id);
+			titles.add(title);
+			sections.add(new ArrayList<Course>());
+			for (int i = 0; i + GRAM_LENGTH <= title.length(); i++) {
+				ArrayList<Integer> ids = postings.computeIfAbsent(title.substring(i, i + GRAM_LENGTH),
+						gram -> new ArrayList<Integer>());
+				// Titles are added in id order, so a repeated trigram is always last
+				if (ids.isEmpty() || ids.get(ids.size() - 1).intValue() != id) {
+					ids.add(id);
+				}
+			}
+		}
+		sections.get(id).add(course);
+	}
+
+	/**
+	 * Returns the sections whose titles contain every term of query, best matches
+	 * first
+	 *
+	 * @param query one or more search terms separated by spaces
+	 * @return the matching sections, which is empty if query has no terms
+	 */
+	ArrayList<Course> search(String query) {
+		ArrayList<Course> found = new ArrayList<Course>();
+		if (query == null) {
+			return found;
+		}
+		String search = normalize(query).trim();
+		if (search.isEmpty()) {
+			return found;
+		}
+		String[] terms = search.split("\\s+");
+
+		ArrayList<Integer> matches = candidates(terms);
+		int[] scores = new int[titles.size()];
+		ArrayList<Integer> ranked = new ArrayList<Integer>();
+		for (int id : matches) {
+			int score = score(titles.get(id), search, terms);
+			if (score > 0) {
+				scores[id] = score;
+				ranked.add(id);
+			}
+		}
+		ranked.sort((a, b) -> {
+			if (scores[a] != scores[b]) {
+				return Integer.compare(scores[b], scores[a]);
+			}
+			if (titles.get(a).length() != titles.get(b).length()) {
+				return Integer.compare(titles.get(a).length(), titles.get(b).length());
+			}
+			return Integer.compare(a, b);
+		});
+
+		for (int id : ranked) {
+			found.addAll(sections.get(id));
+		}
+		return found;
+	}
+
+	/**
+	 * Finds the titles that contain every trigram of every term. Terms shorter
+	 * than a trigram do not narrow the titles down.
+	 *
+	 * @param terms lower cased search terms
+	 * @return ids of the candidate titles in increasing order
+	 */
+	private ArrayList<Integer> candidates(String[] terms) {
+		ArrayList<Integer> result = null;
+		for (String term : terms) {
+			for (int i = 0; i + GRAM_LENGTH <= term.length(); i++) {
+				ArrayList<Integer> ids = postings.get(term.substring(i, i + GRAM_LENGTH));
+				if (ids == null) {
+					return new ArrayList<Integer>();
+				}
+				result = result == null ? ids : intersect(result, ids);
+			}
+		}
+		if (result == null) {
+			result = new ArrayList<Integer>(titles.size());
+			for (int id = 0; id < titles.size(); id++) {
+				result.add(id);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the ids that are in both sorted lists
+	 *
+	 * @param a ids in increasing order
+	 * @param b ids in increasing order
+	 * @return the common ids in increasing order
+	 */
+	private static ArrayList<Integer> intersect(ArrayList<Integer> a, ArrayList<Integer> b) {
+		ArrayList<Integer> common = new ArrayList<Integer>(Math.min(a.size(), b.size()));
+		int i = 0;
+		int j = 0;
+		while (i < a.size() && j < b.size()) {
+			int x = a.get(i);
+			int y = b.get(j);
+			if (x == y) {
+				common.add(x);
+				i++;
+				j++;
+			} else if (x < y) {
+				i++;
+			} else {
+				j++;
+			}
+		}
+		return common;
+	}
+
+	/**
+	 * Scores how well title matches a search
+	 *
+	 * @param title  lower cased title
+	 * @param search lower cased, trimmed search
+	 * @param terms  terms of the search
+	 * @return the score, or 0 if a term is not in the title
+	 */
+	private static int score(String title, String search, String[] terms) {
+		int score = 0;
+		for (String term : terms) {
+			int best = 0;
+			int at = title.indexOf(term);
+			while (at >= 0 && best < WORD_START_SCORE) {
+				best = at == 0 || !Character.isLetterOrDigit(title.charAt(at - 1)) ? WORD_START_SCORE
+						: SUBSTRING_SCORE;
+				at = title.indexOf(term, at + 1);
+			}
+			if (best == 0) {
+				return 0;
+			}
+			score += best;
+		}
+		if (title.equals(search)) {
+			score += WHOLE_TITLE_BONUS;
+		} else if (title.startsWith(search)) {
+			score += TITLE_START_BONUS;
+		}
+		return score;
+	}
+
+	/**
+	 * Lower cases text so searches ignore case
+	 *
+	 * @param text text to normalize
+	 * @return the lower cased text
+	 */
+	private static String normalize(String text) {
+		return text.toLowerCase(Locale.ROOT);
+	}
+
+}
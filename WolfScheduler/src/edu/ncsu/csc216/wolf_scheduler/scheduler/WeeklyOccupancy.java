@@ -0,0 +1,125 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+
+/**
+ * A bitmap of the minutes of the week taken by the Activities in a schedule.
+ * Each day has a bit for every minute, packed into longs, and an Activity takes
+ * the minutes from its start time through its end time on each of its days.
+ * Both ends are included, so an Activity starting at the minute another one
+ * ends overlaps it, just like checkConflict(). Activities with a start time of
+ * 0, such as arranged Courses, never conflict and take no minutes.
+ *
+ * A schedule never holds two conflicting Activities, so every minute belongs to
+ * at most one Activity and removing an Activity can simply clear its minutes.
+ *
+ * @author Yash Agarwal
+ */
+class WeeklyOccupancy {
+
+	/** Number of minutes in a day */
+	private static final int MINUTES_PER_DAY = 24 * 60;
+	/** Number of longs for each day, so a day never shares a long with the next */
+	private static final int WORDS_PER_DAY = (MINUTES_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+
+	/** Bit for every minute of the week, set when an Activity takes it */
+	private long[] words;
+
+	/**
+	 * Constructs the bitmap of an empty week
+	 */
+	WeeklyOccupancy() {
+		words = new long[Activity.DAYS_IN_WEEK * WORDS_PER_DAY];
+	}
+
+	/**
+	 * Checks if activity needs a minute that is already taken. Safe to call from
+	 * several threads at once while the bitmap is not being changed.
+	 *
+	 * @param activity Activity that may be added
+	 * @return true if activity shares a day with a taken minute in its times
+	 */
+	boolean overlaps(Activity activity) {
+		if (activity.getStartTime() == 0) {
+			return false;
+		}
+		int first = minuteOf(activity.getStartTime());
+		int last = minuteOf(activity.getEndTime());
+		for (int days = activity.getMeetingDaysMask(); days != 0; days &= days - 1) {
+			int base = Integer.numberOfTrailingZeros(days) * WORDS_PER_DAY;
+			for (int w = first / Long.SIZE; w <= last / Long.SIZE; w++) {
+				if ((words[base + w] & rangeMask(w, first, last)) != 0) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Marks the minutes of activity as taken
+	 *
+	 * @param activity Activity that was added
+	 */
+	void occupy(Activity activity) {
+		update(activity, true);
+	}
+
+	/**
+	 * Marks the minutes of activity as free
+	 *
+	 * @param activity Activity that was removed
+	 */
+	void free(Activity activity) {
+		update(activity, false);
+	}
+
+	/**
+	 * Sets or clears the minutes of activity on each of its days
+	 *
+	 * @param activity Activity whose minutes change
+	 * @param taken    true to set the minutes, false to clear them
+	 */
+	private void update(Activity activity, boolean taken) {
+		if (activity.getStartTime() == 0) {
+			return;
+		}
+		int first = minuteOf(activity.getStartTime());
+		int last = minuteOf(activity.getEndTime());
+		for (int days = activity.getMeetingDaysMask(); days != 0; days &= days - 1) {
+			int base = Integer.numberOfTrailingZeros(days) * WORDS_PER_DAY;
+			for (int w = first / Long.SIZE; w <= last / Long.SIZE; w++) {
+				if (taken) {
+					words[base + w] |= rangeMask(w, first, last);
+				} else {
+					words[base + w] &= ~rangeMask(w, first, last);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the bits of a long that fall between two minutes of a day
+	 *
+	 * @param word  index of the long in its day
+	 * @param first first minute, inclusive
+	 * @param last  last minute, inclusive
+	 * @return the bits for the minutes from first to last within the long
+	 */
+	private static long rangeMask(int word, int first, int last) {
+		int low = Math.max(first - word * Long.SIZE, 0);
+		int high = Math.min(last - word * Long.SIZE, Long.SIZE - 1);
+		return (-1L << low) & (-1L >>> (Long.SIZE - 1 - high));
+	}
+
+	/**
+	 * Converts a military time to the minute of the day
+	 *
+	 * @param time valid time in military format
+	 * @return minutes since midnight
+	 */
+	private static int minuteOf(int time) {
+		return time / 100 * 60 + time % 100;
+	}
+
+}
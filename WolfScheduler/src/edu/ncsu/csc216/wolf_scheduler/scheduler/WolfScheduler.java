@@ -2,14 +2,17 @@ package edu.ncsu.csc216.wolf_scheduler.scheduler;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
-import edu.ncsu.csc216.wolf_scheduler.course.ConflictException;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
 import edu.ncsu.csc216.wolf_scheduler.course.Event;
 import edu.ncsu.csc216.wolf_scheduler.io.ActivityRecordIO;
-import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.io.CatalogLoadStrategy;
 /**
  * Acts as the holder for NCSU course catalog and for a student's schedule
  * Combines the different Activity subclasses to make a 
@@ -17,10 +20,18 @@ import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
  *
  */
 public class WolfScheduler {
-	/** Course catalog */
-	private ArrayList<Course> catalog;
+	/** Course catalog and its indexes. Replaced as a whole when the catalog is reloaded */
+	private volatile CatalogIndex catalog;
+	/** File the catalog is read from */
+	private final String catalogFileName;
+	/** How the catalog file is read */
+	private final CatalogLoadStrategy strategy;
+	/** Watches the catalog file for changes, or null if it is not watched */
+	private CatalogWatcher watcher;
 	/** Student schedule defined as an Activity for both Courses and Events*/
 	private ArrayList<Activity> schedule;
+	/** Enrolled Course names and per-day Activities of schedule */
+	private ScheduleIndex scheduleIndex;
 	/** title of student schedule*/
 	private String title;
 	
@@ -32,10 +43,24 @@ public class WolfScheduler {
 	 * @throws IllegalArgumentException if fileName cannot be found
 	 */
 	public WolfScheduler(String fileName) {
+		this(fileName, CatalogLoadStrategy.SEQUENTIAL);
+	}
+	
+	/**
+	 * Constructs WolfScheduler Object, reading the catalog with the given strategy
+	 * 
+	 * @param fileName input given by user of the file name for catalog to retrieve courses
+	 * @param strategy how the catalog file is read
+	 * @throws IllegalArgumentException if fileName cannot be found
+	 */
+	public WolfScheduler(String fileName, CatalogLoadStrategy strategy) {
 		schedule = new ArrayList<>();
+		scheduleIndex = new ScheduleIndex();
 		this.title = "My Schedule";
+		this.catalogFileName = fileName;
+		this.strategy = strategy;
 		try {
-			catalog = CourseRecordIO.readCourseRecords(fileName);
+			catalog = new CatalogIndex(strategy.load(fileName));
 		} catch(FileNotFoundException e) {
 			throw new IllegalArgumentException("Cannot find file.");
 		}
@@ -49,16 +74,204 @@ public class WolfScheduler {
 	 * courses in catalog or an empty array if catalog is empty
 	 */
 	public String [][] getCourseCatalog() {
-		String [][] temp = new String [catalog.size()][4];
-		
-		if(catalog.size() == 0) {
-			return temp;
+		return getShortDisplayArrays(this.catalog.getCourses());
+	}
+	
+	/**
+	 * Retrieves name, section and title of one page of the catalog in the order of
+	 * a sort key. Only the rows on the page are built, and the orders are sorted
+	 * once when the catalog is loaded.
+	 * 
+	 * @param key order of the courses
+	 * @param offset number of courses to skip
+	 * @param limit largest number of courses on the page
+	 * @return a 2D array of the name, section, title, and the meeting string of 
+	 * the courses on the page or an empty array if offset is past the end of catalog
+	 * @throws IllegalArgumentException if key is null or offset or limit is negative
+	 */
+	public String [][] getCourseCatalogPage(CatalogSortKey key, int offset, int limit) {
+		if(key == null) {
+			throw new IllegalArgumentException("Invalid sort key.");
+		}
+		if(offset < 0 || limit < 0) {
+			throw new IllegalArgumentException("Invalid page.");
+		}
+		return getShortDisplayArrays(this.catalog.getPage(key, offset, limit));
+	}
+	
+	/**
+	 * Retrieves name, section and title of the courses in a department, ordered
+	 * by course number and section
+	 * 
+	 * @param department department prefix of the courses, such as "CSC"
+	 * @return a 2D array of the name, section, title, and the meeting string of 
+	 * courses in the department or an empty array if there are none
+	 */
+	public String [][] getCourseCatalog(String department) {
+		return getShortDisplayArrays(this.catalog.getDepartment(department));
+	}
+	
+	/**
+	 * Retrieves name, section and title of the courses in a department with course
+	 * numbers from lowNumber to highNumber, ordered by course number and section.
+	 * For example, all CSC 2xx sections are in the range 200 to 299 of "CSC".
+	 * 
+	 * @param department department prefix of the courses, such as "CSC"
+	 * @param lowNumber lowest course number, inclusive
+	 * @param highNumber highest course number, inclusive
+	 * @return a 2D array of the name, section, title, and the meeting string of 
+	 * courses in the range or an empty array if there are none
+	 */
+	public String [][] getCourseCatalog(String department, int lowNumber, int highNumber) {
+		return getShortDisplayArrays(this.catalog.getNumberRange(department, lowNumber, highNumber));
+	}
+	
+	/**
+	 * Retrieves name, section and title of the courses in catalog that meet on
+	 * day at time, including courses that start or end at that time
+	 * 
+	 * @param day day of the week, one of MTWHFSU
+	 * @param time time in military format
+	 * @return a 2D array of the name, section, title, and the meeting string of 
+	 * courses meeting at that time or an empty array if there are none
+	 */
+	public String [][] getCourseCatalogMeetingAt(char day, int time) {
+		return getShortDisplayArrays(this.catalog.getTimeSlots().getMeetingAt(day, time));
+	}
+	
+	/**
+	 * Retrieves name, section and title of the courses in catalog that meet only
+	 * on meetingDays and only between startTime and endTime, ordered by start time
+	 * 
+	 * @param meetingDays days the courses may meet on, such as "MW"
+	 * @param startTime earliest start time in military format
+	 * @param endTime latest end time in military format
+	 * @return a 2D array of the name, section, title, and the meeting string of 
+	 * courses inside the window or an empty array if there are none
+	 */
+	public String [][] getCourseCatalogWithin(String meetingDays, int startTime, int endTime) {
+		return getShortDisplayArrays(this.catalog.getTimeSlots().getWithin(meetingDays, startTime, endTime));
+	}
+	
+	/**
+	 * Retrieves name, section and title of the arranged courses in catalog
+	 * 
+	 * @return a 2D array of the name, section, title, and the meeting string of 
+	 * arranged courses or an empty array if there are none
+	 */
+	public String [][] getArrangedCourseCatalog() {
+		return getShortDisplayArrays(this.catalog.getTimeSlots().getArranged());
+	}
+	
+	/**
+	 * Searches the titles of the courses in catalog, ignoring case. Every word of
+	 * query must appear in a title, either as a word or inside one. Courses whose
+	 * titles match best are first.
+	 * 
+	 * @param query words to search for, such as "software" or "discrete math"
+	 * @return a 2D array of the name, section, title, and the meeting string of 
+	 * matching courses or an empty array if there are none
+	 */
+	public String [][] searchCourseCatalog(String query) {
+		return getShortDisplayArrays(this.catalog.getTitleSearch().search(query));
+	}
+	
+	/**
+	 * Retrieves name, section and title of the courses in catalog that match a
+	 * filter query, such as "dept=CSC credits>=3 days~MW start>=0900". The query
+	 * uses the most selective catalog index it can. See CatalogQuery for the
+	 * fields and operators.
+	 * 
+	 * @param query terms separated by spaces
+	 * @return a 2D array of the name, section, title, and the meeting string of 
+	 * matching courses ordered by name and section, or an empty array if there are none
+	 * @throws IllegalArgumentException if the query is invalid
+	 */
+	public String [][] queryCourseCatalog(String query) {
+		return getShortDisplayArrays(CatalogQuery.compile(query).run(this.catalog));
+	}
+	
+	/**
+	 * Completes the start of a course name or title from catalog, ignoring case
+	 * 
+	 * @param prefix what has been typed so far, such as "CSC 2" or "soft"
+	 * @param limit largest number of completions to return
+	 * @return up to limit names and titles that start with prefix, in alphabetical
+	 * order, or an empty array if there are none
+	 */
+	public String [] getCompletions(String prefix, int limit) {
+		return this.catalog.getCompletions().complete(prefix, limit);
+	}
+	
+	/**
+	 * Retrieves name, section and title of every course in catalog that could be
+	 * added to the schedule: it does not conflict with any scheduled Activity and
+	 * is not a course the student is already enrolled in. The catalog is checked
+	 * in parallel.
+	 * 
+	 * @return a 2D array of the name, section, title, and the meeting string of 
+	 * courses that fit the schedule, in catalog order
+	 */
+	public synchronized String [][] getCourseCatalogThatFits() {
+		ScheduleIndex scheduleIndex = this.scheduleIndex;
+		List<Course> fits = catalog.getCourses().parallelStream()
+				.filter(c -> !scheduleIndex.isEnrolled(c.getName()) && !scheduleIndex.hasConflict(c))
+				.collect(Collectors.toList());
+		return getShortDisplayArrays(fits);
+	}
+	
+	/**
+	 * Checks if two catalog sections conflict. The conflicts between every two
+	 * sections are worked out the first time this is called for a catalog, and
+	 * each call after that is a lookup.
+	 * 
+	 * @param name1 name of the first Course
+	 * @param section1 section of the first Course
+	 * @param name2 name of the second Course
+	 * @param section2 section of the second Course
+	 * @return true if the sections conflict, false if they do not or either is not
+	 * in the catalog
+	 */
+	public boolean doSectionsConflict(String name1, String section1, String name2, String section2) {
+		CatalogIndex catalog = this.catalog;
+		Course first = catalog.getCourse(name1, section1);
+		Course second = catalog.getCourse(name2, section2);
+		if (first == null || second == null) {
+			return false;
+		}
+		return catalog.getConflicts().conflicts(first, second);
+	}
+	
+	/**
+	 * Retrieves the catalog sections that conflict with a catalog section
+	 * 
+	 * @param name name of the Course
+	 * @param section section of the Course
+	 * @return a 2D array of the name, section, title, and the meeting string of 
+	 * each conflicting section in catalog order, which is empty if the section is 
+	 * not in the catalog
+	 */
+	public String [][] getConflictingSections(String name, String section) {
+		CatalogIndex catalog = this.catalog;
+		Course course = catalog.getCourse(name, section);
+		if (course == null) {
+			return new String [0][4];
 		}
+		return getShortDisplayArrays(catalog.getConflicts().getConflicts(course));
+	}
+	
+	/**
+	 * Builds the short display arrays of activities
+	 * 
+	 * @param courses activities to display
+	 * @return a 2D array of the short display array of each activity
+	 */
+	private static String [][] getShortDisplayArrays(List<? extends Activity> courses) {
+		String [][] temp = new String [courses.size()][4];
 		
-		for (int i = 0; i < catalog.size(); i++) {
-            Course c = catalog.get(i);
-            temp[i] = c.getShortDisplayArray();
-        }
+		for (int i = 0; i < courses.size(); i++) {
+			temp[i] = courses.get(i).getShortDisplayArray();
+		}
 		
 		return temp;
 	}
@@ -107,6 +320,23 @@ public class WolfScheduler {
 		return temp;
 	}
 	
+	/**
+	 * Lists the scheduled Activities that an Activity meeting on the given days
+	 * and times would conflict with
+	 * 
+	 * @param meetingDays days to check, such as "MW"
+	 * @param startTime start time to check
+	 * @param endTime end time to check
+	 * @return a 2D array of the short display arrays of the conflicting Activities, 
+	 * ordered by day and time, which is empty if startTime is 0
+	 * @throws IllegalArgumentException if the meeting days and times are invalid
+	 */
+	public synchronized String [][] getScheduleConflicts(String meetingDays, int startTime, int endTime) {
+		// Validates the days and times like any other Event would
+		Event check = new Event("Conflicts", meetingDays, startTime, endTime, "");
+		return getShortDisplayArrays(scheduleIndex.getConflicts(check));
+	}
+	
 	/**
 	 * Returns title
 	 * 
@@ -155,12 +385,18 @@ public class WolfScheduler {
 	 * @return the located Course in catalog or null if not found
 	 */
 	public Course getCourseFromCatalog(String name, String section) {
-		for(int i = 0; i < catalog.size(); i++) {
-			if(catalog.get(i).getName().equals(name) && catalog.get(i).getSection().equals(section)) {					
-				return catalog.get(i);
-			}
-		}
-		return null;
+		return catalog.getCourse(name, section);
+	}
+	
+	/**
+	 * Retrieves the sections in catalog taught by an instructor
+	 * 
+	 * @param instructorId id of the instructor
+	 * @return an unmodifiable list of the instructor's sections in catalog order,
+	 * or an empty list if the instructor teaches no sections
+	 */
+	public List<Course> getInstructorSections(String instructorId) {
+		return catalog.getInstructorSections(instructorId);
 	}
 	
 	/** 
@@ -168,34 +404,26 @@ public class WolfScheduler {
 	 * 
 	 * @param name name of Course added
 	 * @param section section of Course added
-	 * @return true if Course was added to schedule and exists in catalog. False is there is a duplicate Course in catalog
+	 * @return true if Course was added to schedule and exists in catalog. False if the Course or section is not in catalog
 	 * @throws IllegalArgumentException if the desired Course is already in the students schedule 
 	 * @throws IllegalArgumentException if there is a scheduling conflict between courses
 	 */
-	public boolean addCourseToSchedule(String name, String section) {
+	public synchronized boolean addCourseToSchedule(String name, String section) {
+		Course addedCourse = catalog.getCourse(name, section);
+		if(addedCourse == null) {
+			return false;
+		}
 		
-		for(int i = 0; i < catalog.size(); i++) {
-			
-			if(catalog.get(i).getName().equals(name)) {
-				Course addedCourse = getCourseFromCatalog(name, section);
-				for(int j = 0; j < schedule.size(); j++) {
-					if(schedule.get(j).isDuplicate(addedCourse)) {
-						throw new IllegalArgumentException("You are already enrolled in " + name);
-					}
-					
-					try{
-						schedule.get(j).checkConflict(addedCourse);
-					} catch(ConflictException e) {
-						throw new IllegalArgumentException("The course cannot be added due to a conflict.");
-					}
-					
-				}
-				schedule.add(addedCourse);
-				
-				return true;
-			}
+		if(scheduleIndex.isEnrolled(name)) {
+			throw new IllegalArgumentException("You are already enrolled in " + name);
+		}
+		if(scheduleIndex.hasConflict(addedCourse)) {
+			throw new IllegalArgumentException("The course cannot be added due to a conflict.");
 		}
-		return false;
+		
+		schedule.add(addedCourse);
+		scheduleIndex.add(addedCourse);
+		return true;
 	}
 	
 	/**
@@ -205,10 +433,10 @@ public class WolfScheduler {
 	 * @return true true if course was successfully removed and false otherwise
 	 * @throws IndexOutOfBoundsException if idx is not within the index of schedule
 	 */
-	public boolean removeActivityFromSchedule(int idx) {
+	public synchronized boolean removeActivityFromSchedule(int idx) {
 		try {
 			if(idx <= schedule.size() && idx >= 0) {
-				schedule.remove(idx);
+				scheduleIndex.remove(schedule.remove(idx));
 				return true;
 			}	
 			
@@ -229,22 +457,19 @@ public class WolfScheduler {
 	 * @throws IllegalArgumentException if there is a duplicate event
 	 * @throws IllegalArgumentException if there is a scheduling conflict between events
 	 */
-	public void addEventToSchedule(String eventTitle, String eventMeetingDays, int eventStartTime, int eventEndTime, String eventDetails) {
+	public synchronized void addEventToSchedule(String eventTitle, String eventMeetingDays, int eventStartTime, int eventEndTime, String eventDetails) {
 		Event addEvent = new Event(eventTitle, eventMeetingDays, eventStartTime, eventEndTime, eventDetails);
 		
-		for(int i = 0; i < schedule.size(); i++) {
-			if(schedule.get(i).isDuplicate(addEvent)) {
-				throw new IllegalArgumentException("You have already created an event called " + eventTitle);
-			}
-			
-			try{
-				schedule.get(i).checkConflict(addEvent);
-			} catch(ConflictException e) {
-				throw new IllegalArgumentException("The event cannot be added due to a conflict.");
-			}
+		if(scheduleIndex.hasEvent(eventTitle)) {
+			throw new IllegalArgumentException("You have already created an event called " + eventTitle);
+		}
+		
+		if(scheduleIndex.hasConflict(addEvent)) {
+			throw new IllegalArgumentException("The event cannot be added due to a conflict.");
 		}
 		
 		schedule.add(addEvent);
+		scheduleIndex.add(addEvent);
 	}
 	
 	
@@ -252,9 +477,72 @@ public class WolfScheduler {
 	 * Resets schedule to an empty ArrayList
 	 * 
 	 */
-	public void resetSchedule() {
+	public synchronized void resetSchedule() {
 		schedule = new ArrayList<>();
+		scheduleIndex = new ScheduleIndex();
+	}
+	
+	/**
+	 * Reads the catalog file again and swaps in the new catalog. Only sections
+	 * that were added, removed, or changed get new Course objects; unchanged
+	 * sections keep the Course already in the catalog. Courses in the schedule
+	 * are left alone, and the ones whose sections were removed are reported in
+	 * the returned CatalogDiff.
+	 * 
+	 * Only the Course objects carry over. If anything changed, the catalog's
+	 * indexes are rebuilt from scratch: the name and section lookup right away,
+	 * and each other index the next time it is used. If nothing changed, not even
+	 * the order of the sections, the current catalog and its indexes are kept.
+	 * 
+	 * The file is read without holding the scheduler's lock, so changes to the
+	 * schedule are only held up while the diff is built and the catalog swapped.
+	 * 
+	 * @return the differences between the old and new catalog
+	 * @throws IllegalArgumentException if the catalog file cannot be found
+	 */
+	public CatalogDiff reloadCatalog() {
+		ArrayList<Course> newCatalog;
+		try {
+			newCatalog = strategy.load(catalogFileName);
+		} catch(FileNotFoundException e) {
+			throw new IllegalArgumentException("Cannot find file.");
+		}
 		
+		synchronized(this) {
+			CatalogDiff diff = new CatalogDiff(catalog.getCourses(), newCatalog, schedule);
+			if (diff.hasChanges() || !diff.getCatalog().equals(catalog.getCourses())) {
+				catalog = new CatalogIndex(diff.getCatalog());
+			}
+			return diff;
+		}
+	}
+	
+	/**
+	 * Starts watching the catalog file and reloading the catalog whenever it
+	 * changes. Does nothing if the catalog is already being watched.
+	 * 
+	 * @param listener called with the differences after each reload, or null
+	 * @throws IllegalArgumentException if the catalog file cannot be watched
+	 */
+	public synchronized void watchCatalog(Consumer<CatalogDiff> listener) {
+		if (watcher != null) {
+			return;
+		}
+		try {
+			watcher = new CatalogWatcher(this, Paths.get(catalogFileName), listener);
+		} catch(IOException e) {
+			throw new IllegalArgumentException("Cannot watch file.");
+		}
+	}
+	
+	/**
+	 * Stops watching the catalog file, if it is being watched
+	 */
+	public synchronized void stopWatchingCatalog() {
+		if (watcher != null) {
+			watcher.close();
+			watcher = null;
+		}
 	}
 
 }
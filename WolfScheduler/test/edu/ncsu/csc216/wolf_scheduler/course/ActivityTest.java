@@ -134,4 +134,39 @@ class ActivityTest {
 
 	}
 
+	/*
+	 * Tests converting meeting days to a day mask
+	 */
+	@Test
+	public void testToDayMask() {
+		assertEquals(0b0000101, Activity.toDayMask("MW"));
+		assertEquals(0b0000101, Activity.toDayMask("WM"));
+		assertEquals(0b1111111, Activity.toDayMask("MTWHFSU"));
+		assertEquals(0, Activity.toDayMask(""));
+		assertEquals(Activity.INVALID_DAY_MASK, Activity.toDayMask("A"));
+		assertEquals(Activity.INVALID_DAY_MASK, Activity.toDayMask("MM"));
+		assertEquals(Activity.INVALID_DAY_MASK, Activity.toDayMask("MX"));
+
+		assertEquals(0, Activity.dayIndex('M'));
+		assertEquals(6, Activity.dayIndex('U'));
+		assertEquals(-1, Activity.dayIndex('A'));
+		assertEquals(0b0001010, new Event("Gym", "TH", 800, 900, "").getMeetingDaysMask());
+		assertEquals(0, new Course("CSC 217", "Lab", "601", 1, "sesmith5", "A").getMeetingDaysMask());
+	}
+
+	/*
+	 * Tests checkConflict on days that only one Activity meets on
+	 */
+	@Test
+	public void testCheckConflictDifferentDays() {
+		Activity a1 = new Event("Exercise", "SU", 1330, 1445, "Gym");
+		Activity a2 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MTWHF", 1330,
+				1445);
+		Activity a3 = new Event("Hike", "US", 1400, 1500, "Trail");
+
+		assertDoesNotThrow(() -> a1.checkConflict(a2));
+		assertDoesNotThrow(() -> a2.checkConflict(a1));
+		assertThrows(ConflictException.class, () -> a1.checkConflict(a3));
+	}
+
 }
@@ -32,4 +32,15 @@ class ConflictExceptionTest {
 		ConflictException ce = new ConflictException("Custom exception message");
 	    assertEquals("Custom exception message", ce.getMessage());	}
 
+	/**
+	 * Tests that each ConflictException keeps its own message
+	 */
+	@Test
+	void testConflictExceptionMessagesIndependent() {
+		ConflictException custom = new ConflictException("Custom exception message");
+		ConflictException defaulted = new ConflictException();
+		assertEquals("Custom exception message", custom.getMessage());
+		assertEquals("Schedule conflict.", defaulted.getMessage());
+	}
+
 }
@@ -451,4 +451,34 @@ public class CourseTest {
 		assertEquals(s2, c2.toString());
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Tests that validate() reports the same message the constructor throws.
+	 */
+	@Test
+	public void testValidate() {
+		assertNull(Course.validate(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME));
+		assertNull(Course.validate(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, "A", 0, 0));
+
+		assertEquals("Invalid title.",
+				Course.validate(NAME, "", SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME));
+		assertEquals("Invalid meeting days and times.",
+				Course.validate(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, "A", START_TIME, END_TIME));
+		assertEquals("Invalid meeting days and times.",
+				Course.validate(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, END_TIME, START_TIME));
+		assertEquals("Invalid course name.",
+				Course.validate("CSC216", TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME));
+		assertEquals("Invalid section.",
+				Course.validate(NAME, TITLE, "01", CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME));
+		assertEquals("Invalid credits.",
+				Course.validate(NAME, TITLE, SECTION, 6, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME));
+		assertEquals("Invalid instructor id.",
+				Course.validate(NAME, TITLE, SECTION, CREDITS, null, MEETING_DAYS, START_TIME, END_TIME));
+
+		// The first invalid field in constructor order is reported
+		Exception e = assertThrows(IllegalArgumentException.class,
+				() -> new Course("CSC216", TITLE, "01", CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME));
+		assertEquals(e.getMessage(),
+				Course.validate("CSC216", TITLE, "01", CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME));
+	}
+
+}
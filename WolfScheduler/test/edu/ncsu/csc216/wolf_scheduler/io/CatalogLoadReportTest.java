@@ -0,0 +1,84 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests CatalogLoadReport and CourseRecordIO.readCourseRecords() with a report
+ *
+ * @author Yash Agarwal
+ */
+class CatalogLoadReportTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+	/** Invalid course records */
+	private final String invalidTestFile = "test-files/invalid_course_records.txt";
+
+	/**
+	 * Tests the counts for a file of valid records with one duplicate
+	 *
+	 * @throws FileNotFoundException if a test file cannot be found
+	 */
+	@Test
+	void testValidRecords() throws FileNotFoundException {
+		CatalogLoadReport report = new CatalogLoadReport();
+		ArrayList<Course> courses = CourseRecordIO.readCourseRecords(validTestFile, report);
+
+		assertEquals(CourseRecordIO.readCourseRecords(validTestFile), courses);
+		assertEquals(13, report.getAcceptedCount());
+		assertEquals(1, report.getDuplicateCount());
+		assertEquals(0, report.getRejectedCount());
+		assertTrue(report.getRejectedLines().isEmpty());
+	}
+
+	/**
+	 * Tests the line numbers and reasons for a file of invalid records
+	 *
+	 * @throws FileNotFoundException if a test file cannot be found
+	 */
+	@Test
+	void testInvalidRecords() throws FileNotFoundException {
+		CatalogLoadReport report = new CatalogLoadReport();
+		assertEquals(0, CourseRecordIO.readCourseRecords(invalidTestFile, report).size());
+
+		assertEquals(0, report.getAcceptedCount());
+		assertEquals(0, report.getDuplicateCount());
+		assertEquals(25, report.getRejectedCount());
+
+		List<CatalogLoadReport.RejectedLine> rejected = report.getRejectedLines();
+		for (int i = 0; i < rejected.size(); i++) {
+			assertEquals(i + 1, rejected.get(i).getLineNumber());
+		}
+		assertEquals("Invalid course name.", rejected.get(0).getReason());
+		assertEquals(CatalogLoadReport.INVALID_NUMBER, rejected.get(7).getReason());
+		assertEquals("Invalid section.", rejected.get(9).getReason());
+		assertEquals("Invalid credits.", rejected.get(11).getReason());
+		assertEquals(CatalogLoadReport.MISSING_FIELD, rejected.get(15).getReason());
+		assertEquals("Invalid instructor id.", rejected.get(17).getReason());
+		assertEquals("Invalid meeting days and times.", rejected.get(18).getReason());
+		assertEquals(CatalogLoadReport.EXTRA_FIELD, rejected.get(19).getReason());
+		assertEquals(CatalogLoadReport.EXTRA_FIELD, rejected.get(24).getReason());
+		assertEquals("line 25 - Extra field.", rejected.get(24).toString());
+
+		assertThrows(UnsupportedOperationException.class, () -> rejected.remove(0));
+	}
+
+	/**
+	 * Tests reading with a null report
+	 */
+	@Test
+	void testNullReport() {
+		Exception e = assertThrows(IllegalArgumentException.class,
+				() -> CourseRecordIO.readCourseRecords(validTestFile, null));
+		assertEquals("Report cannot be null.", e.getMessage());
+	}
+
+}
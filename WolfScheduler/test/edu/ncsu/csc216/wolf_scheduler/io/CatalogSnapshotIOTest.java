@@ -0,0 +1,112 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests CatalogSnapshotIO
+ *
+ * @author Yash Agarwal
+ */
+class CatalogSnapshotIOTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Tests compiling a catalog into a snapshot and reading it back
+	 *
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	@Test
+	void testCompileAndReadSnapshot() throws IOException {
+		Path snapshot = Files.createTempFile("catalog", ".snapshot");
+		CatalogSnapshotIO.compileSnapshot(validTestFile, snapshot.toString());
+
+		ArrayList<Course> expected = CourseRecordIO.readCourseRecords(validTestFile);
+		ArrayList<Course> actual = CatalogSnapshotIO.readSnapshot(snapshot.toString());
+		assertEquals(expected, actual);
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).toString(), actual.get(i).toString());
+		}
+
+		// Repeated strings come from the same entry in the string table
+		assertSame(actual.get(0).getTitle(), actual.get(1).getTitle());
+
+		assertEquals(expected, CatalogLoadStrategy.SNAPSHOT.load(snapshot.toString()));
+		Files.delete(snapshot);
+	}
+
+	/**
+	 * Tests reading an empty catalog
+	 *
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	@Test
+	void testEmptySnapshot() throws IOException {
+		Path snapshot = Files.createTempFile("catalog", ".snapshot");
+		CatalogSnapshotIO.writeSnapshot(snapshot.toString(), new ArrayList<Course>());
+		assertEquals(0, CatalogSnapshotIO.readSnapshot(snapshot.toString()).size());
+		Files.delete(snapshot);
+	}
+
+	/**
+	 * Tests reading files that are not snapshots
+	 *
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	@Test
+	void testReadInvalidSnapshot() throws IOException {
+		Exception e = assertThrows(IllegalArgumentException.class,
+				() -> CatalogSnapshotIO.readSnapshot(validTestFile));
+		assertEquals("Invalid catalog snapshot.", e.getMessage());
+
+		// A snapshot that was cut short
+		Path snapshot = Files.createTempFile("catalog", ".snapshot");
+		CatalogSnapshotIO.compileSnapshot(validTestFile, snapshot.toString());
+		byte[] bytes = Files.readAllBytes(snapshot);
+		byte[] truncated = new byte[bytes.length - 10];
+		System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+		Files.write(snapshot, truncated);
+		assertThrows(IllegalArgumentException.class, () -> CatalogSnapshotIO.readSnapshot(snapshot.toString()));
+		Files.delete(snapshot);
+
+		assertThrows(FileNotFoundException.class, () -> CatalogSnapshotIO.readSnapshot("test-files/no_such_file"));
+	}
+
+	/**
+	 * Tests reading snapshots with counts larger than the file could hold
+	 *
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	@Test
+	void testReadCorruptCounts() throws IOException {
+		Path snapshot = Files.createTempFile("catalog", ".snapshot");
+
+		// Magic number, version, and a string count of Integer.MAX_VALUE
+		Files.write(snapshot, new byte[] { 0x57, 0x53, 0x43, 0x53, 0, 0, 0, 1, 0x7f, -1, -1, -1 });
+		Exception e = assertThrows(IllegalArgumentException.class,
+				() -> CatalogSnapshotIO.readSnapshot(snapshot.toString()));
+		assertEquals("Invalid catalog snapshot.", e.getMessage());
+
+		// One string with a length of Integer.MAX_VALUE
+		Files.write(snapshot, new byte[] { 0x57, 0x53, 0x43, 0x53, 0, 0, 0, 1, 0, 0, 0, 1, 0x7f, -1, -1, -1 });
+		assertThrows(IllegalArgumentException.class, () -> CatalogSnapshotIO.readSnapshot(snapshot.toString()));
+
+		// No strings and Integer.MAX_VALUE Courses
+		Files.write(snapshot, new byte[] { 0x57, 0x53, 0x43, 0x53, 0, 0, 0, 1, 0, 0, 0, 0, 0x7f, -1, -1, -1 });
+		assertThrows(IllegalArgumentException.class, () -> CatalogSnapshotIO.readSnapshot(snapshot.toString()));
+
+		Files.delete(snapshot);
+	}
+
+}
@@ -0,0 +1,46 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests CourseCatalogBuilder
+ *
+ * @author Yash Agarwal
+ */
+class CourseCatalogBuilderTest {
+
+	/**
+	 * Tests that the first Course with a name and section is kept and the order
+	 * Courses were added in is preserved
+	 */
+	@Test
+	void testAdd() {
+		CourseCatalogBuilder builder = new CourseCatalogBuilder();
+		Course c1 = new Course("CSC 116", "Intro to Programming - Java", "002", 3, "spbalik", "MW", 1120, 1310);
+		Course c2 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1330, 1445);
+		Course duplicate = new Course("CSC 116", "Intro to Programming - Java", "002", 3, "jtking", "TH", 910, 1100);
+		Course c3 = new Course("CSC 116", "Intro to Programming - Java", "003", 3, "tbdimitr", "TH", 1120, 1310);
+
+		assertTrue(builder.add(c1));
+		assertTrue(builder.add(c2));
+		assertFalse(builder.add(duplicate));
+		assertTrue(builder.add(c3));
+
+		assertEquals(3, builder.size());
+		assertTrue(builder.contains("CSC 116", "002"));
+		assertFalse(builder.contains("CSC 116", "001"));
+
+		ArrayList<Course> catalog = builder.build();
+		assertEquals(3, catalog.size());
+		assertSame(c1, catalog.get(0));
+		assertSame(c2, catalog.get(1));
+		assertSame(c3, catalog.get(2));
+	}
+
+}
@@ -0,0 +1,105 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests CourseRecordInput and reading compressed course records
+ *
+ * @author Yash Agarwal
+ */
+class CourseRecordInputTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Tests reading a GZIP compressed file with every reader
+	 *
+	 * @throws IOException if the compressed file cannot be written
+	 */
+	@Test
+	void testGzip() throws IOException {
+		File compressed = File.createTempFile("course_records", ".txt.gz");
+		try {
+			try (OutputStream out = new GZIPOutputStream(new FileOutputStream(compressed))) {
+				Files.copy(new File(validTestFile).toPath(), out);
+			}
+			checkReaders(compressed.getPath());
+		} finally {
+			compressed.delete();
+		}
+	}
+
+	/**
+	 * Tests reading a Deflate (zlib) compressed file with every reader
+	 *
+	 * @throws IOException if the compressed file cannot be written
+	 */
+	@Test
+	void testDeflate() throws IOException {
+		File compressed = File.createTempFile("course_records", ".txt.z");
+		try {
+			try (OutputStream out = new DeflaterOutputStream(new FileOutputStream(compressed))) {
+				Files.copy(new File(validTestFile).toPath(), out);
+			}
+			checkReaders(compressed.getPath());
+		} finally {
+			compressed.delete();
+		}
+	}
+
+	/**
+	 * Tests that a file with the GZIP magic bytes but a broken header cannot be
+	 * read
+	 *
+	 * @throws IOException if the file cannot be written
+	 */
+	@Test
+	void testInvalidGzipHeader() throws IOException {
+		File broken = File.createTempFile("course_records", ".txt.gz");
+		try {
+			Files.write(broken.toPath(), new byte[] { 0x1f, (byte) 0x8b, 0 });
+			Exception e = assertThrows(IOException.class, () -> CourseRecordIO.readCourseRecords(broken.getPath()));
+			assertEquals("Cannot read file.", e.getMessage());
+		} finally {
+			broken.delete();
+		}
+	}
+
+	/**
+	 * Checks that each reader returns the same catalog for fileName as for the
+	 * uncompressed test file
+	 *
+	 * @param fileName compressed copy of the test file
+	 * @throws IOException if a file cannot be read
+	 */
+	private void checkReaders(String fileName) throws IOException {
+		ArrayList<Course> expected = CourseRecordIO.readCourseRecords(validTestFile);
+		assertEquals(13, expected.size());
+		assertEquals(expected, CourseRecordIO.readCourseRecords(fileName));
+		assertEquals(expected, CourseRecordIO.readCourseRecordsInParallel(fileName));
+		assertEquals(expected, CourseRecordIO.readCourseRecordsMapped(fileName));
+
+		ArrayList<Course> streamed = new ArrayList<Course>();
+		CourseRecordIO.iterateCourseRecords(fileName).forEachRemaining(streamed::add);
+		assertEquals(expected, streamed);
+
+		CatalogLoadReport report = new CatalogLoadReport();
+		assertEquals(expected, CourseRecordIO.readCourseRecords(fileName, report));
+		assertEquals(1, report.getDuplicateCount());
+	}
+
+}
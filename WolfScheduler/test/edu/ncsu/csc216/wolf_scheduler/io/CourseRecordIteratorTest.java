@@ -0,0 +1,87 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests CourseRecordIterator and CourseRecordIO.streamCourseRecords()
+ *
+ * @author Yash Agarwal
+ */
+class CourseRecordIteratorTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+	/** Invalid course records */
+	private final String invalidTestFile = "test-files/invalid_course_records.txt";
+
+	/**
+	 * Tests that the iterator returns the same Courses as readCourseRecords()
+	 *
+	 * @throws FileNotFoundException if a test file cannot be found
+	 */
+	@Test
+	void testIterator() throws FileNotFoundException {
+		ArrayList<Course> expected = CourseRecordIO.readCourseRecords(validTestFile);
+		CourseRecordIterator courses = CourseRecordIO.iterateCourseRecords(validTestFile);
+		for (Course c : expected) {
+			assertTrue(courses.hasNext());
+			assertEquals(c, courses.next());
+		}
+		assertFalse(courses.hasNext());
+		assertThrows(NoSuchElementException.class, () -> courses.next());
+
+		CourseRecordIterator invalid = CourseRecordIO.iterateCourseRecords(invalidTestFile);
+		assertFalse(invalid.hasNext());
+	}
+
+	/**
+	 * Tests that no Courses are returned after the iterator is closed
+	 *
+	 * @throws FileNotFoundException if a test file cannot be found
+	 */
+	@Test
+	void testClose() throws FileNotFoundException {
+		CourseRecordIterator courses = CourseRecordIO.iterateCourseRecords(validTestFile);
+		assertEquals("CSC 116", courses.next().getName());
+		courses.close();
+		assertFalse(courses.hasNext());
+		courses.close();
+
+		// A Course read ahead by hasNext() is not returned after closing
+		CourseRecordIterator readAhead = CourseRecordIO.iterateCourseRecords(validTestFile);
+		assertTrue(readAhead.hasNext());
+		readAhead.close();
+		assertFalse(readAhead.hasNext());
+		assertThrows(NoSuchElementException.class, () -> readAhead.next());
+	}
+
+	/**
+	 * Tests filtering and counting the Stream of Courses
+	 *
+	 * @throws FileNotFoundException if a test file cannot be found
+	 */
+	@Test
+	void testStreamCourseRecords() throws FileNotFoundException {
+		try (Stream<Course> courses = CourseRecordIO.streamCourseRecords(validTestFile)) {
+			assertEquals(13, courses.count());
+		}
+		try (Stream<Course> courses = CourseRecordIO.streamCourseRecords(validTestFile)) {
+			assertEquals(5, courses.filter(c -> "sesmith5".equals(c.getInstructorId())).count());
+		}
+		try (Stream<Course> courses = CourseRecordIO.streamCourseRecords(validTestFile)) {
+			assertEquals(CourseRecordIO.readCourseRecords(validTestFile), courses.collect(Collectors.toList()));
+		}
+		assertThrows(FileNotFoundException.class, () -> CourseRecordIO.streamCourseRecords("test-files/no_such_file"));
+	}
+
+}
@@ -0,0 +1,100 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests CourseRecordTokenizer against the way a Scanner splits Course records
+ *
+ * @author Yash Agarwal
+ */
+class CourseRecordTokenizerTest {
+
+	/**
+	 * Tests splitting a record into fields
+	 */
+	@Test
+	void testNext() {
+		CourseRecordTokenizer tokenizer = new CourseRecordTokenizer();
+		tokenizer.reset("CSC 216,Software Development Fundamentals,001,3,sesmith5,MW,1330,1445");
+
+		assertEquals("CSC 216", tokenizer.next());
+		assertEquals("Software Development Fundamentals", tokenizer.next());
+		assertEquals("001", tokenizer.next());
+		assertEquals(3, tokenizer.nextInt());
+		assertEquals("sesmith5", tokenizer.next());
+		assertEquals("MW", tokenizer.next());
+		assertEquals(1330, tokenizer.nextInt());
+		assertEquals(1445, tokenizer.nextInt());
+		assertFalse(tokenizer.hasNext());
+		assertThrows(IllegalArgumentException.class, () -> tokenizer.next());
+	}
+
+	/**
+	 * Tests that delimiters are skipped one at a time like a Scanner skips them
+	 */
+	@Test
+	void testEmptyFields() {
+		CourseRecordTokenizer tokenizer = new CourseRecordTokenizer();
+		tokenizer.reset(",a,,b,");
+		assertEquals("a", tokenizer.next());
+		assertEquals("", tokenizer.next());
+		assertEquals("b", tokenizer.next());
+		assertFalse(tokenizer.hasNext());
+
+		tokenizer.reset("a,,");
+		assertEquals("a", tokenizer.next());
+		assertEquals("", tokenizer.next());
+		assertFalse(tokenizer.hasNext());
+
+		tokenizer.reset("");
+		assertFalse(tokenizer.hasNext());
+	}
+
+	/**
+	 * Tests parsing integer fields
+	 */
+	@Test
+	void testNextInt() {
+		CourseRecordTokenizer tokenizer = new CourseRecordTokenizer();
+		tokenizer.reset("0910,+3,-3,2147483647,-2147483648");
+		assertEquals(910, tokenizer.nextInt());
+		assertEquals(3, tokenizer.nextInt());
+		assertEquals(-3, tokenizer.nextInt());
+		assertEquals(Integer.MAX_VALUE, tokenizer.nextInt());
+		assertEquals(Integer.MIN_VALUE, tokenizer.nextInt());
+
+		for (String invalid : new String[] { "abc", "", " 3", "3 ", "+", "-", "1_0", "2147483648", "-2147483649" }) {
+			tokenizer.reset(invalid);
+			assertThrows(IllegalArgumentException.class, () -> tokenizer.nextInt(), invalid);
+		}
+	}
+
+	/**
+	 * Tests splitting a Reader into lines on every separator a Scanner uses
+	 */
+	@Test
+	void testNextLine() {
+		CourseRecordTokenizer tokenizer = new CourseRecordTokenizer(
+				new StringReader("a\nb\r\nc\rd\u2028\u2029\u0085e"));
+		String[] expected = { "a", "b", "c", "d", "", "", "e" };
+		for (String line : expected) {
+			assertTrue(tokenizer.nextLine());
+			if ("".equals(line)) {
+				assertFalse(tokenizer.hasNext());
+			} else {
+				assertEquals(line, tokenizer.next());
+			}
+		}
+		assertFalse(tokenizer.nextLine());
+		tokenizer.close();
+
+		CourseRecordTokenizer trailing = new CourseRecordTokenizer(new StringReader("a\n"));
+		assertTrue(trailing.nextLine());
+		assertFalse(trailing.nextLine());
+	}
+
+}
@@ -0,0 +1,79 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests FieldInterner and the sharing of field values in loaded catalogs
+ *
+ * @author Yash Agarwal
+ */
+class FieldInternerTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Tests FieldInterner.intern()
+	 */
+	@Test
+	void testIntern() {
+		FieldInterner fields = new FieldInterner();
+		String first = new String("sesmith5");
+		String second = new String("sesmith5");
+		assertNotSame(first, second);
+
+		assertSame(first, fields.intern(first));
+		assertSame(first, fields.intern(second));
+		assertEquals("MW", fields.intern("MW"));
+		assertNull(fields.intern(null));
+		assertEquals(2, fields.size());
+	}
+
+	/**
+	 * Tests that every reader shares repeated field values between the Courses of
+	 * a catalog
+	 *
+	 * @throws FileNotFoundException if the test file cannot be found
+	 */
+	@Test
+	void testSharedFields() throws FileNotFoundException {
+		checkShared(CourseRecordIO.readCourseRecords(validTestFile));
+		checkShared(CourseRecordIO.readCourseRecordsInParallel(validTestFile));
+		checkShared(CourseRecordIO.readCourseRecordsMapped(validTestFile));
+
+		ArrayList<Course> streamed = new ArrayList<Course>();
+		CourseRecordIO.iterateCourseRecords(validTestFile).forEachRemaining(streamed::add);
+		checkShared(streamed);
+	}
+
+	/**
+	 * Checks that equal titles, instructor ids, and meeting days in catalog are
+	 * the same instance
+	 *
+	 * @param catalog catalog read from the test file
+	 */
+	private void checkShared(ArrayList<Course> catalog) {
+		assertEquals(13, catalog.size());
+		for (Course a : catalog) {
+			for (Course b : catalog) {
+				if (a.getTitle().equals(b.getTitle())) {
+					assertSame(a.getTitle(), b.getTitle());
+				}
+				if (a.getInstructorId().equals(b.getInstructorId())) {
+					assertSame(a.getInstructorId(), b.getInstructorId());
+				}
+				if (a.getMeetingDays().equals(b.getMeetingDays())) {
+					assertSame(a.getMeetingDays(), b.getMeetingDays());
+				}
+			}
+		}
+	}
+
+}
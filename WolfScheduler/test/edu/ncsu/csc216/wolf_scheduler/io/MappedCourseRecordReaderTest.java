@@ -0,0 +1,76 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests MappedCourseRecordReader
+ *
+ * @author Yash Agarwal
+ */
+class MappedCourseRecordReaderTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+	/** Invalid course records */
+	private final String invalidTestFile = "test-files/invalid_course_records.txt";
+
+	/**
+	 * Tests that mapping the test files gives the same catalog as reading them
+	 * through a Reader
+	 *
+	 * @throws FileNotFoundException if a test file cannot be found
+	 */
+	@Test
+	void testReadTestFiles() throws FileNotFoundException {
+		assertEquals(CourseRecordIO.readCourseRecords(validTestFile),
+				CourseRecordIO.readCourseRecordsMapped(validTestFile));
+		assertEquals(0, CourseRecordIO.readCourseRecordsMapped(invalidTestFile).size());
+	}
+
+	/**
+	 * Tests lines that cross the edge of a small window, every kind of line
+	 * separator, and a line that is longer than the window
+	 *
+	 * @throws IOException if the temporary file cannot be written
+	 */
+	@Test
+	void testReadAcrossWindows() throws IOException {
+		Path file = Files.createTempFile("course_records", ".txt");
+		PrintStream out = new PrintStream(file.toFile());
+		String[] separators = { "\n", "\r", "\r\n" };
+		for (int i = 0; i < 200; i++) {
+			out.print("CSC " + (100 + i) + ",Course " + i + ",001,3,instr" + i + ",MW,1330,1445");
+			out.print(separators[i % separators.length]);
+		}
+		out.print("CSC 999,A Very Long Title That Does Not Fit In The Window,601,3,sesmith5,A");
+		out.close();
+
+		ArrayList<Course> mapped = new MappedCourseRecordReader(32).read(file.toString());
+		ArrayList<Course> sequential = CourseRecordIO.readCourseRecords(file.toString());
+		Files.delete(file);
+
+		assertEquals(201, mapped.size());
+		assertEquals(sequential, mapped);
+	}
+
+	/**
+	 * Tests reading a file that does not exist
+	 */
+	@Test
+	void testReadMissingFile() {
+		assertThrows(FileNotFoundException.class,
+				() -> CourseRecordIO.readCourseRecordsMapped("test-files/no_such_file.txt"));
+	}
+
+}
@@ -0,0 +1,84 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests ParallelCourseRecordReader
+ *
+ * @author Yash Agarwal
+ */
+class ParallelCourseRecordReaderTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+	/** Invalid course records */
+	private final String invalidTestFile = "test-files/invalid_course_records.txt";
+
+	/**
+	 * Tests that splitting the test files into many small ranges gives the same
+	 * catalog as reading them on one thread
+	 *
+	 * @throws FileNotFoundException if a test file cannot be found
+	 */
+	@Test
+	void testReadTestFiles() throws FileNotFoundException {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		ParallelCourseRecordReader reader = new ParallelCourseRecordReader(pool, 16);
+
+		assertEquals(CourseRecordIO.readCourseRecords(validTestFile), reader.read(validTestFile));
+		assertEquals(0, reader.read(invalidTestFile).size());
+		pool.shutdown();
+	}
+
+	/**
+	 * Tests that duplicates in later ranges are dropped and file order is kept
+	 *
+	 * @throws IOException if the temporary file cannot be written
+	 */
+	@Test
+	void testReadDuplicatesAcrossRanges() throws IOException {
+		Path file = Files.createTempFile("course_records", ".txt");
+		PrintStream out = new PrintStream(file.toFile());
+		for (int i = 0; i < 500; i++) {
+			out.print("CSC " + (100 + i % 300) + ",Course " + i + ",001,3,instr" + i + ",MW,1330,1445\r\n");
+			if (i % 17 == 0) {
+				out.println("CSC 216,Software Development Fundamentals,001,3,,MW,1330,1445");
+			}
+		}
+		out.print("CSC 999,Last Course,601,3,sesmith5,A");
+		out.close();
+
+		ForkJoinPool pool = new ForkJoinPool(8);
+		ArrayList<Course> parallel = new ParallelCourseRecordReader(pool, 64).read(file.toString());
+		ArrayList<Course> sequential = CourseRecordIO.readCourseRecords(file.toString());
+		pool.shutdown();
+		Files.delete(file);
+
+		assertEquals(301, parallel.size());
+		assertEquals(sequential, parallel);
+		assertEquals("Course 0", parallel.get(0).getTitle());
+		assertEquals("Last Course", parallel.get(300).getTitle());
+	}
+
+	/**
+	 * Tests reading a file that does not exist
+	 */
+	@Test
+	void testReadMissingFile() {
+		assertThrows(FileNotFoundException.class,
+				() -> CourseRecordIO.readCourseRecordsInParallel("test-files/no_such_file.txt"));
+	}
+
+}
@@ -0,0 +1,70 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests CatalogConflictMatrix
+ *
+ * @author Yash Agarwal
+ */
+class CatalogConflictMatrixTest {
+
+	/**
+	 * Tests that the matrix agrees with conflictsWith() for every two sections of
+	 * a random catalog
+	 */
+	@Test
+	void testConflictsMatchesConflictsWith() {
+		String[] days = { "M", "MW", "TH", "MWF", "F", "MTWHF", "A" };
+		Random random = new Random(216);
+		ArrayList<Course> courses = new ArrayList<Course>();
+		for (int i = 0; i < 300; i++) {
+			String meetingDays = days[random.nextInt(days.length)];
+			if ("A".equals(meetingDays)) {
+				courses.add(new Course("CSC " + (100 + i), "Title", "001", 3, "id", meetingDays));
+			} else {
+				// Times on the half hour, so many sections start or end at the same time
+				int start = (8 + random.nextInt(10)) * 100 + random.nextInt(2) * 30;
+				int end = start + random.nextInt(3) * 100 + random.nextInt(2) * 15;
+				courses.add(new Course("CSC " + (100 + i), "Title", "001", 3, "id", meetingDays, start, end));
+			}
+		}
+
+		CatalogConflictMatrix matrix = new CatalogConflictMatrix(courses);
+		for (Course a : courses) {
+			int found = 0;
+			for (Course b : courses) {
+				assertEquals(a.conflictsWith(b), matrix.conflicts(a, b));
+				if (a != b && a.conflictsWith(b)) {
+					found++;
+				}
+			}
+			assertEquals(found, matrix.getConflicts(a).size());
+		}
+	}
+
+	/**
+	 * Tests sections that are not in the catalog
+	 */
+	@Test
+	void testNotInCatalog() {
+		Course inCatalog = new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100);
+		Course other = new Course("CSC 316", "Data Structures and Algorithms", "001", 3, "jtking", "MW", 830, 945);
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(inCatalog);
+
+		CatalogConflictMatrix matrix = new CatalogConflictMatrix(courses);
+		assertTrue(matrix.conflicts(inCatalog, other));
+		assertTrue(matrix.conflicts(inCatalog, inCatalog));
+		assertEquals(0, matrix.getConflicts(inCatalog).size());
+		assertEquals(0, matrix.getConflicts(other).size());
+	}
+
+}
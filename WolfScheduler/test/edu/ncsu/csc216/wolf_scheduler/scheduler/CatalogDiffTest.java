@@ -0,0 +1,69 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests CatalogDiff
+ *
+ * @author Yash Agarwal
+ */
+class CatalogDiffTest {
+
+	/**
+	 * Tests finding added, removed, changed, and unchanged sections
+	 */
+	@Test
+	void testDiff() {
+		Course kept = new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100);
+		Course removed = new Course("CSC 116", "Intro to Programming - Java", "002", 3, "spbalik", "MW", 1120, 1310);
+		Course oldVersion = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH",
+				1330, 1445);
+		Course newVersion = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "jctetter", "TH",
+				1330, 1445);
+		Course added = new Course("CSC 316", "Data Structures and Algorithms", "001", 3, "jtking", "MW", 830, 945);
+
+		ArrayList<Course> oldCatalog = new ArrayList<Course>();
+		oldCatalog.add(kept);
+		oldCatalog.add(removed);
+		oldCatalog.add(oldVersion);
+
+		ArrayList<Course> newCatalog = new ArrayList<Course>();
+		newCatalog.add(added);
+		newCatalog.add(newVersion);
+		newCatalog.add(new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100));
+
+		ArrayList<Activity> schedule = new ArrayList<Activity>();
+		schedule.add(removed);
+		schedule.add(kept);
+		schedule.add(new Event("Exercise", "MWF", 800, 900, "Cardio"));
+
+		CatalogDiff diff = new CatalogDiff(oldCatalog, newCatalog, schedule);
+		assertTrue(diff.hasChanges());
+		assertEquals(1, diff.getAdded().size());
+		assertSame(added, diff.getAdded().get(0));
+		assertEquals(1, diff.getRemoved().size());
+		assertSame(removed, diff.getRemoved().get(0));
+		assertEquals(1, diff.getChanged().size());
+		assertSame(newVersion, diff.getChanged().get(0));
+		assertEquals(1, diff.getRemovedFromSchedule().size());
+		assertSame(removed, diff.getRemovedFromSchedule().get(0));
+
+		// New catalog order, with the unchanged section keeping its old object
+		ArrayList<Course> catalog = diff.getCatalog();
+		assertEquals(3, catalog.size());
+		assertSame(added, catalog.get(0));
+		assertSame(newVersion, catalog.get(1));
+		assertSame(kept, catalog.get(2));
+
+		assertFalse(new CatalogDiff(oldCatalog, oldCatalog, schedule).hasChanges());
+	}
+
+}
@@ -0,0 +1,98 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests CatalogIndex
+ *
+ * @author Yash Agarwal
+ */
+class CatalogIndexTest {
+
+	/**
+	 * Tests looking up Courses by name and section
+	 */
+	@Test
+	void testGetCourse() {
+		Course c1 = new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100);
+		Course c2 = new Course("CSC 116", "Intro to Programming - Java", "002", 3, "spbalik", "MW", 1120, 1310);
+		Course c3 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1330,
+				1445);
+		Course duplicate = new Course("CSC 116", "Intro to Programming - Java", "001", 4, "sesmith5", "A", 0, 0);
+
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(c1);
+		courses.add(c2);
+		courses.add(c3);
+		courses.add(duplicate);
+
+		CatalogIndex index = new CatalogIndex(courses);
+		assertSame(courses, index.getCourses());
+		assertSame(c1, index.getCourse("CSC 116", "001"));
+		assertSame(c2, index.getCourse("CSC 116", "002"));
+		assertSame(c3, index.getCourse("CSC 216", "001"));
+		assertNull(index.getCourse("CSC 216", "002"));
+		assertNull(index.getCourse("CSC 116", null));
+		assertNull(index.getCourse(null, "001"));
+
+		assertNull(new CatalogIndex(new ArrayList<Course>()).getCourse("CSC 116", "001"));
+	}
+
+	/**
+	 * Tests department and course number range queries
+	 */
+	@Test
+	void testRanges() {
+		Course csc216 = new Course("CSC 216", "Software Development Fundamentals", "002", 3, "ixdoming", "MW", 1330,
+				1445);
+		Course csc216First = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH",
+				1330, 1445);
+		Course csc116 = new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100);
+		Course csc299 = new Course("CSC 299", "Special Topics", "001", 3, "jtking", "A");
+		Course csc300 = new Course("CSC 300", "Special Topics", "001", 3, "jtking", "A");
+		Course cs200 = new Course("CS 200", "Other Department", "001", 3, "jtking", "A");
+		Course csca200 = new Course("CSCA 200", "Other Department", "001", 3, "jtking", "A");
+		Course ma141 = new Course("MA 141", "Calculus I", "001", 4, "abcde", "MWF", 800, 850);
+
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(csc216);
+		courses.add(ma141);
+		courses.add(csc300);
+		courses.add(csc116);
+		courses.add(csca200);
+		courses.add(csc216First);
+		courses.add(cs200);
+		courses.add(csc299);
+		CatalogIndex index = new CatalogIndex(courses);
+
+		ArrayList<Course> csc = index.getDepartment("CSC");
+		assertEquals(5, csc.size());
+		assertSame(csc116, csc.get(0));
+		assertSame(csc216First, csc.get(1));
+		assertSame(csc216, csc.get(2));
+		assertSame(csc299, csc.get(3));
+		assertSame(csc300, csc.get(4));
+
+		ArrayList<Course> csc2xx = index.getNumberRange("CSC", 200, 299);
+		assertEquals(3, csc2xx.size());
+		assertSame(csc216First, csc2xx.get(0));
+		assertSame(csc216, csc2xx.get(1));
+		assertSame(csc299, csc2xx.get(2));
+
+		assertEquals(1, index.getDepartment("MA").size());
+		assertEquals(1, index.getDepartment("CS").size());
+		assertEquals(2, index.getNumberRange("CSC", 216, 216).size());
+		assertEquals(5, index.getNumberRange("CSC", -5, 5000).size());
+		assertEquals(0, index.getNumberRange("CSC", 300, 299).size());
+		assertEquals(0, index.getDepartment("E").size());
+		assertEquals(0, index.getDepartment(null).size());
+		assertEquals(0, index.getNumberRange(null, 0, 999).size());
+	}
+
+}
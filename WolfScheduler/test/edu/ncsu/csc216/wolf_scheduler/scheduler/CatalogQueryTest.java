@@ -0,0 +1,124 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+
+/**
+ * Tests CatalogQuery
+ *
+ * @author Yash Agarwal
+ */
+class CatalogQueryTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/** Catalog read from the test file */
+	private ArrayList<Course> courses;
+	/** Index of the catalog */
+	private CatalogIndex catalog;
+
+	/**
+	 * Reads the test catalog
+	 *
+	 * @throws FileNotFoundException if the test file cannot be found
+	 */
+	@BeforeEach
+	void setUp() throws FileNotFoundException {
+		courses = CourseRecordIO.readCourseRecords(validTestFile);
+		catalog = new CatalogIndex(courses);
+	}
+
+	/**
+	 * Checks that a query returns the same Courses as a scan with the same filter
+	 *
+	 * @param query  the query
+	 * @param expect number of Courses expected
+	 * @param filter the same filter as a loop over the catalog would use
+	 */
+	private void check(String query, int expect, Predicate<Course> filter) {
+		ArrayList<Course> found = CatalogQuery.compile(query).run(catalog);
+		ArrayList<Course> scanned = new ArrayList<Course>();
+		for (Course c : courses) {
+			if (filter.test(c)) {
+				scanned.add(c);
+			}
+		}
+		scanned.sort(CatalogSortKey.NAME.getOrder());
+		assertEquals(expect, found.size(), query);
+		assertEquals(scanned, found, query);
+	}
+
+	/**
+	 * Tests queries on each field
+	 */
+	@Test
+	void testFields() {
+		check("", 13, c -> true);
+		check("dept=CSC", 13, c -> true);
+		check("dept!=CSC", 0, c -> false);
+		check("instructor=sesmith5", 5, c -> "sesmith5".equals(c.getInstructorId()));
+		check("section=001", 5, c -> "001".equals(c.getSection()));
+		check("title~software", 8, c -> c.getTitle().toLowerCase().contains("software"));
+		check("title~C", 3, c -> c.getTitle().toLowerCase().contains("c"));
+		check("days~MW", 6, c -> c.getMeetingDays().contains("M") && c.getMeetingDays().contains("W"));
+		check("days=A", 2, c -> "A".equals(c.getMeetingDays()));
+		check("number>=200 number<300", 9, c -> c.getName().charAt(4) == '2');
+		check("credits<3", 4, c -> c.getCredits() < 3);
+		check("start>=0900 end<=1300", 4, c -> c.getStartTime() >= 900 && c.getEndTime() <= 1300);
+	}
+
+	/**
+	 * Tests queries that combine several terms and indexes
+	 */
+	@Test
+	void testCombined() {
+		check("dept=CSC credits>=3 days~MW start>=0900 instructor=sesmith5", 0, c -> false);
+		check("dept=CSC credits>=3 days~MW start>=0900", 5,
+				c -> c.getCredits() >= 3 && c.getMeetingDays().contains("M") && c.getMeetingDays().contains("W")
+						&& c.getStartTime() >= 900);
+		check("instructor=sesmith5 number=217 section!=601", 3,
+				c -> "CSC 217".equals(c.getName()) && !"601".equals(c.getSection()));
+		check("dept=CSC number>300", 1, c -> "CSC 316".equals(c.getName()));
+		check("dept=CSC number<100", 0, c -> false);
+		check("dept=CSC number>5000", 0, c -> false);
+		check("dept=MA", 0, c -> false);
+		check("instructor=nobody title~software", 0, c -> false);
+	}
+
+	/**
+	 * Tests titles with spaces
+	 */
+	@Test
+	void testMultiWordTitle() {
+		check("title=Software Development Fundamentals", 3, c -> "CSC 216".equals(c.getName()));
+		check("title=software  development fundamentals number>=200", 3, c -> "CSC 216".equals(c.getName()));
+		check("credits=1 title~Development Fundamentals Lab", 4, c -> "CSC 217".equals(c.getName()));
+		check("title!=Software Development Fundamentals title~Software", 5,
+				c -> c.getTitle().contains("Software") && !"CSC 216".equals(c.getName()));
+		check("title~Intro to section=001", 1, c -> "CSC 116".equals(c.getName()) && "001".equals(c.getSection()));
+	}
+
+	/**
+	 * Tests invalid queries
+	 */
+	@Test
+	void testInvalid() {
+		String[] invalid = { null, "dept", "room=101", "credits>=three", "dept>CSC", "days<MW", "title>=A",
+				"credits~3", "=CSC", "dept=CSC Fundamentals", "Software title~Software" };
+		for (String query : invalid) {
+			Exception e = assertThrows(IllegalArgumentException.class, () -> CatalogQuery.compile(query));
+			assertEquals("Invalid query.", e.getMessage());
+		}
+	}
+
+}
@@ -0,0 +1,152 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.ConflictException;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests ScheduleIndex
+ *
+ * @author Yash Agarwal
+ */
+class ScheduleIndexTest {
+
+	/**
+	 * Tests the enrolled names and conflicts as Activities are added and removed
+	 */
+	@Test
+	void testAddRemove() {
+		ScheduleIndex index = new ScheduleIndex();
+		Course course = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1330,
+				1445);
+		Course arranged = new Course("CSC 217", "Software Development Fundamentals Lab", "601", 1, "sesmith5", "A");
+		Event event = new Event("Exercise", "MWF", 800, 900, "Cardio");
+
+		assertFalse(index.isEnrolled("CSC 216"));
+		index.add(course);
+		index.add(arranged);
+		index.add(event);
+		assertTrue(index.isEnrolled("CSC 216"));
+		assertTrue(index.isEnrolled("CSC 217"));
+		assertFalse(index.isEnrolled("Exercise"));
+
+		// Shares a day and touches the end time
+		assertTrue(index.hasConflict(new Event("Meeting", "H", 1445, 1500, "")));
+		assertTrue(index.hasConflict(new Event("Breakfast", "F", 830, 840, "")));
+		// Same times on other days
+		assertFalse(index.hasConflict(new Event("Meeting", "MW", 1330, 1445, "")));
+		assertFalse(index.hasConflict(new Event("Weekend", "SU", 800, 900, "")));
+		assertFalse(index.hasConflict(new Course("CSC 230", "C and Software Tools", "601", 3, "dbsturgi", "A")));
+
+		index.remove(course);
+		assertFalse(index.isEnrolled("CSC 216"));
+		assertFalse(index.hasConflict(new Event("Meeting", "H", 1445, 1500, "")));
+		assertTrue(index.hasConflict(new Event("Breakfast", "F", 830, 840, "")));
+	}
+
+	/**
+	 * Tests conflictsWith(), checkConflict(), and hasConflict() against fixed
+	 * cases of the overlap rules
+	 */
+	@Test
+	void testConflictRules() {
+		Event scheduled = new Event("A", "MW", 1000, 1100, "");
+		// Touching endpoints conflict
+		assertConflict(true, scheduled, new Event("B", "M", 1100, 1200, ""));
+		assertConflict(true, scheduled, new Event("B", "W", 900, 1000, ""));
+		// Containment either way conflicts
+		assertConflict(true, scheduled, new Event("B", "M", 1015, 1045, ""));
+		assertConflict(true, scheduled, new Event("B", "W", 900, 1200, ""));
+		// Partial overlap conflicts
+		assertConflict(true, scheduled, new Event("B", "MTWHF", 1030, 1130, ""));
+		// Disjoint times or days do not conflict
+		assertConflict(false, scheduled, new Event("B", "M", 1101, 1200, ""));
+		assertConflict(false, scheduled, new Event("B", "THF", 1000, 1100, ""));
+		// Start time of 0 is exempt on either side
+		assertConflict(false, scheduled, new Event("B", "M", 0, 1030, ""));
+		assertConflict(false, new Event("B", "M", 0, 1030, ""), scheduled);
+		assertConflict(false, scheduled, new Course("CSC 217", "Lab", "601", 1, "sesmith5", "A"));
+	}
+
+	/**
+	 * Tests that conflictsWith(), checkConflict(), and hasConflict() agree with a
+	 * copy of the original overlap rules for many pairs of times and days
+	 */
+	@Test
+	void testConflictsMatchOriginalRules() {
+		int[] times = { 0, 800, 830, 900, 930, 1000, 1030, 1100 };
+		String[] days = { "M", "MW", "TH", "F", "MTWHF" };
+		for (int s1 = 0; s1 < times.length; s1++) {
+			for (int e1 = s1; e1 < times.length; e1++) {
+				for (int s2 = 0; s2 < times.length; s2++) {
+					for (int e2 = s2; e2 < times.length; e2++) {
+						for (String d1 : days) {
+							for (String d2 : days) {
+								Event a = new Event("A", d1, times[s1], times[e1], "");
+								Event b = new Event("B", d2, times[s2], times[e2], "");
+								assertConflict(originalConflict(a, b), a, b);
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Asserts whether activity conflicts with scheduled through every conflict
+	 * check
+	 *
+	 * @param expected  true if the Activities should conflict
+	 * @param scheduled Activity in the schedule
+	 * @param activity  Activity that may be added
+	 */
+	private static void assertConflict(boolean expected, Activity scheduled, Activity activity) {
+		assertEquals(expected, scheduled.conflictsWith(activity));
+		boolean thrown = false;
+		try {
+			scheduled.checkConflict(activity);
+		} catch (ConflictException e) {
+			thrown = true;
+		}
+		assertEquals(expected, thrown);
+
+		ScheduleIndex index = new ScheduleIndex();
+		index.add(scheduled);
+		assertEquals(expected, index.hasConflict(activity));
+	}
+
+	/**
+	 * The overlap rules as checkConflict() first implemented them, comparing the
+	 * meeting days character by character
+	 *
+	 * @param a one Activity
+	 * @param b the other Activity
+	 * @return true if the original checkConflict() would have thrown
+	 */
+	private static boolean originalConflict(Activity a, Activity b) {
+		if (a.getStartTime() == 0 || b.getStartTime() == 0) {
+			return false;
+		}
+		for (int i = 0; i < a.getMeetingDays().length(); i++) {
+			for (int j = 0; j < b.getMeetingDays().length(); j++) {
+				if (a.getMeetingDays().charAt(i) == b.getMeetingDays().charAt(j)) {
+					if (a.getStartTime() == b.getStartTime() || a.getStartTime() == b.getEndTime()
+							|| a.getEndTime() == b.getStartTime() || a.getEndTime() == b.getEndTime()
+							|| a.getStartTime() <= b.getStartTime() && a.getEndTime() >= b.getStartTime()
+							|| a.getStartTime() <= b.getEndTime() && a.getEndTime() >= b.getEndTime()
+							|| a.getStartTime() >= b.getStartTime() && a.getEndTime() <= b.getEndTime()) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+}
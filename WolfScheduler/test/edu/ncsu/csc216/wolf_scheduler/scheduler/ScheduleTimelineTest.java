@@ -0,0 +1,80 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests ScheduleTimeline
+ *
+ * @author Yash Agarwal
+ */
+class ScheduleTimelineTest {
+
+	/**
+	 * Tests that getOverlapping() lists exactly the Activities that conflictsWith()
+	 * finds in a schedule of many Events
+	 */
+	@Test
+	void testGetOverlappingMatchesConflictsWith() {
+		ScheduleTimeline timeline = new ScheduleTimeline();
+		ArrayList<Activity> schedule = new ArrayList<Activity>();
+		String[] days = { "MW", "TH", "F", "SU" };
+		// Office hours every 40 minutes, each 20 minutes long, never overlapping
+		for (int d = 0; d < days.length; d++) {
+			for (int minute = 480; minute + 20 < 1200; minute += 40) {
+				int start = minute / 60 * 100 + minute % 60;
+				int end = (minute + 20) / 60 * 100 + (minute + 20) % 60;
+				Event event = new Event("Hours " + d + " " + start, days[d], start, end, "");
+				timeline.add(event);
+				schedule.add(event);
+			}
+		}
+
+		for (String queryDays : new String[] { "M", "WH", "FSU", "MTWHFSU" }) {
+			for (int first = 480; first < 1200; first += 5) {
+				for (int length : new int[] { 0, 5, 20, 45, 130 }) {
+					int last = first + length;
+					int start = first / 60 * 100 + first % 60;
+					int end = last / 60 * 100 + last % 60;
+					Event query = new Event("Query", queryDays, start, end, "");
+
+					ArrayList<Activity> found = timeline.getOverlapping(query);
+					int expected = 0;
+					for (Activity a : schedule) {
+						if (a.conflictsWith(query)) {
+							expected++;
+							assertTrue(found.contains(a));
+						}
+					}
+					assertEquals(expected, found.size());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests removing Activities and Activities that start at 0
+	 */
+	@Test
+	void testRemove() {
+		ScheduleTimeline timeline = new ScheduleTimeline();
+		Event lunch = new Event("Lunch", "MW", 1100, 1200, "");
+		Event midnight = new Event("Midnight", "M", 0, 100, "");
+		timeline.add(lunch);
+		timeline.add(midnight);
+
+		assertEquals(1, timeline.getOverlapping(Activity.toDayMask("M"), 0, 2359).size());
+		assertEquals(0, timeline.getOverlapping(new Event("Early", "M", 0, 1500, "")).size());
+		assertEquals(0, timeline.getOverlapping(Activity.toDayMask("M"), 1300, 1200).size());
+
+		timeline.remove(lunch);
+		assertEquals(0, timeline.getOverlapping(Activity.toDayMask("MW"), 0, 2359).size());
+	}
+
+}
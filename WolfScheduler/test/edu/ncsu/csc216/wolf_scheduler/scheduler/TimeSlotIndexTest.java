@@ -0,0 +1,112 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests TimeSlotIndex
+ *
+ * @author Yash Agarwal
+ */
+class TimeSlotIndexTest {
+
+	/** Meets MW 1120 to 1310 */
+	private final Course mw = new Course("CSC 116", "Intro to Programming - Java", "002", 3, "spbalik", "MW", 1120,
+			1310);
+	/** Meets TH 1000 to 1115 */
+	private final Course th = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH",
+			1000, 1115);
+	/** Meets MWF 1300 to 1415 */
+	private final Course mwf = new Course("CSC 226", "Discrete Mathematics for Computer Scientists", "001", 3,
+			"tmbarnes", "MWF", 1300, 1415);
+	/** Meets W 1500 to 1650 */
+	private final Course w = new Course("CSC 217", "Software Development Fundamentals Lab", "223", 1, "sesmith5", "W",
+			1500, 1650);
+	/** Arranged */
+	private final Course arranged = new Course("CSC 217", "Software Development Fundamentals Lab", "601", 1,
+			"sesmith5", "A");
+
+	/**
+	 * Builds an index of the test sections
+	 *
+	 * @return the index
+	 */
+	private TimeSlotIndex buildIndex() {
+		TimeSlotIndex index = new TimeSlotIndex();
+		index.add(mw);
+		index.add(th);
+		index.add(mwf);
+		index.add(w);
+		index.add(arranged);
+		return index;
+	}
+
+	/**
+	 * Tests finding what meets on a day at a time
+	 */
+	@Test
+	void testGetMeetingAt() {
+		TimeSlotIndex index = buildIndex();
+
+		ArrayList<Course> tuesday = index.getMeetingAt('T', 1015);
+		assertEquals(1, tuesday.size());
+		assertSame(th, tuesday.get(0));
+
+		// Start and end times are included
+		assertEquals(1, index.getMeetingAt('H', 1000).size());
+		assertEquals(1, index.getMeetingAt('H', 1115).size());
+		assertEquals(0, index.getMeetingAt('H', 1116).size());
+
+		ArrayList<Course> monday = index.getMeetingAt('M', 1305);
+		assertEquals(2, monday.size());
+		assertSame(mw, monday.get(0));
+		assertSame(mwf, monday.get(1));
+
+		assertEquals(0, index.getMeetingAt('S', 1200).size());
+		assertEquals(0, index.getMeetingAt('A', 1200).size());
+		assertEquals(0, index.getMeetingAt('M', 1260).size());
+		assertEquals(0, index.getMeetingAt('M', -1).size());
+	}
+
+	/**
+	 * Tests finding what meets entirely inside a window
+	 */
+	@Test
+	void testGetWithin() {
+		TimeSlotIndex index = buildIndex();
+
+		ArrayList<Course> afternoon = index.getWithin("MW", 1300, 1700);
+		assertEquals(1, afternoon.size());
+		assertSame(w, afternoon.get(0));
+
+		ArrayList<Course> week = index.getWithin("MTWHF", 0, 2359);
+		assertEquals(4, week.size());
+		assertSame(th, week.get(0));
+		assertSame(mw, week.get(1));
+		assertSame(mwf, week.get(2));
+		assertSame(w, week.get(3));
+
+		// Repeated days and days in any order
+		assertEquals(3, index.getWithin("WFWM", 1100, 1700).size());
+		assertEquals(1, index.getWithin("MW", 1120, 1310).size());
+		assertEquals(0, index.getWithin("MW", 1121, 1310).size());
+		assertEquals(0, index.getWithin("MW", 1700, 1300).size());
+		assertEquals(0, index.getWithin(null, 1300, 1700).size());
+	}
+
+	/**
+	 * Tests the arranged bucket
+	 */
+	@Test
+	void testGetArranged() {
+		ArrayList<Course> found = buildIndex().getArranged();
+		assertEquals(1, found.size());
+		assertSame(arranged, found.get(0));
+	}
+
+}
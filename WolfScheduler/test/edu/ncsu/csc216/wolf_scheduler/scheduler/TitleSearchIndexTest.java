@@ -0,0 +1,94 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests TitleSearchIndex
+ *
+ * @author Yash Agarwal
+ */
+class TitleSearchIndexTest {
+
+	/** First section of Software Development Fundamentals */
+	private final Course sdf1 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH",
+			1330, 1445);
+	/** Second section of Software Development Fundamentals */
+	private final Course sdf2 = new Course("CSC 216", "Software Development Fundamentals", "002", 3, "ixdoming", "MW",
+			1330, 1445);
+	/** The lab */
+	private final Course lab = new Course("CSC 217", "Software Development Fundamentals Lab", "202", 1, "sesmith5",
+			"M", 1040, 1230);
+	/** Title with "software" inside another word */
+	private final Course firmware = new Course("ECE 306", "Firmsoftware Systems", "001", 3, "jtking", "A");
+	/** Title that is exactly "Software" */
+	private final Course software = new Course("CSC 100", "Software", "001", 3, "jtking", "A");
+	/** Discrete math */
+	private final Course discrete = new Course("CSC 226", "Discrete Mathematics for Computer Scientists", "001", 3,
+			"tmbarnes", "MWF", 935, 1025);
+
+	/**
+	 * Builds an index of the test sections
+	 *
+	 * @return the index
+	 */
+	private TitleSearchIndex buildIndex() {
+		TitleSearchIndex index = new TitleSearchIndex();
+		index.add(firmware);
+		index.add(sdf1);
+		index.add(lab);
+		index.add(discrete);
+		index.add(sdf2);
+		index.add(software);
+		return index;
+	}
+
+	/**
+	 * Tests ranking the results of a search
+	 */
+	@Test
+	void testRanking() {
+		ArrayList<Course> found = buildIndex().search("Software");
+		assertEquals(5, found.size());
+		// Whole title, then shorter titles that start with the search, then a match inside a word
+		assertSame(software, found.get(0));
+		assertSame(sdf1, found.get(1));
+		assertSame(sdf2, found.get(2));
+		assertSame(lab, found.get(3));
+		assertSame(firmware, found.get(4));
+	}
+
+	/**
+	 * Tests searches with several terms, short terms, and no matches
+	 */
+	@Test
+	void testTerms() {
+		TitleSearchIndex index = buildIndex();
+
+		ArrayList<Course> found = index.search("  fundamentals LAB ");
+		assertEquals(1, found.size());
+		assertSame(lab, found.get(0));
+
+		found = index.search("discrete math");
+		assertEquals(1, found.size());
+		assertSame(discrete, found.get(0));
+
+		found = index.search("te");
+		assertEquals(2, found.size());
+		assertSame(firmware, found.get(0));
+		assertSame(discrete, found.get(1));
+
+		// Has every trigram of the term but not the term itself
+		assertEquals(0, index.search("softwarf").size());
+		assertEquals(0, index.search("quantum").size());
+		assertEquals(0, index.search("software quantum").size());
+		assertEquals(0, index.search("   ").size());
+		assertEquals(0, index.search(null).size());
+	}
+
+}
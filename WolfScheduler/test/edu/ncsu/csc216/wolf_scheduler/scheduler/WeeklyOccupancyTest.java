@@ -0,0 +1,57 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests WeeklyOccupancy
+ *
+ * @author Yash Agarwal
+ */
+class WeeklyOccupancyTest {
+
+	/**
+	 * Tests that overlaps() agrees with conflictsWith() for times on both sides of
+	 * the boundaries between the longs of a day
+	 */
+	@Test
+	void testOverlapsMatchesConflictsWith() {
+		// 103 and 104 are minutes 63 and 64, 207 and 208 are minutes 127 and 128
+		int[] times = { 1, 59, 103, 104, 105, 207, 208, 1200, 2358, 2359 };
+		for (int s1 = 0; s1 < times.length; s1++) {
+			for (int e1 = s1; e1 < times.length; e1++) {
+				Event scheduled = new Event("A", "TS", times[s1], times[e1], "");
+				WeeklyOccupancy occupancy = new WeeklyOccupancy();
+				occupancy.occupy(scheduled);
+				for (int s2 = 0; s2 < times.length; s2++) {
+					for (int e2 = s2; e2 < times.length; e2++) {
+						for (String days : new String[] { "T", "MW", "SU" }) {
+							Event event = new Event("B", days, times[s2], times[e2], "");
+							assertEquals(scheduled.conflictsWith(event), occupancy.overlaps(event));
+						}
+					}
+				}
+				occupancy.free(scheduled);
+				assertFalse(occupancy.overlaps(new Event("Day", "MTWHFSU", 1, 2359, "")));
+			}
+		}
+	}
+
+	/**
+	 * Tests that Activities starting at 0 take no minutes and never overlap
+	 */
+	@Test
+	void testStartTimeZero() {
+		WeeklyOccupancy occupancy = new WeeklyOccupancy();
+		occupancy.occupy(new Event("Midnight", "M", 0, 100, ""));
+		assertFalse(occupancy.overlaps(new Event("Early", "M", 30, 45, "")));
+
+		occupancy.occupy(new Event("Early", "M", 30, 45, ""));
+		assertTrue(occupancy.overlaps(new Event("Touch", "M", 45, 50, "")));
+		assertFalse(occupancy.overlaps(new Event("Midnight", "M", 0, 100, "")));
+	}
+
+}
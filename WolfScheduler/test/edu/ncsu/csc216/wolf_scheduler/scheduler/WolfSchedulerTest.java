@@ -7,13 +7,21 @@ import java.io.IOException;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.ConflictException;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CatalogLoadStrategy;
 
 /**
  * Tests the WolfScheduler class.
@@ -92,6 +100,28 @@ public class WolfSchedulerTest {
 		assertEquals(13, ws2.getCourseCatalog().length);		
 	}
 	
+	/**
+	 * Tests WolfScheduler() with each catalog load strategy that reads Course records.
+	 */
+	@Test
+	public void testWolfSchedulerLoadStrategy() {
+		String [][] expected = new WolfScheduler(validTestFile).getCourseCatalog();
+		CatalogLoadStrategy [] strategies = {CatalogLoadStrategy.SEQUENTIAL, CatalogLoadStrategy.PARALLEL,
+				CatalogLoadStrategy.MAPPED};
+		for (CatalogLoadStrategy strategy : strategies) {
+			WolfScheduler ws = new WolfScheduler(validTestFile, strategy);
+			assertArrayEquals(expected, ws.getCourseCatalog());
+			assertEquals(0, new WolfScheduler(invalidTestFile, strategy).getCourseCatalog().length);
+			
+			try {
+				new WolfScheduler("test-files/no_such_file.txt", strategy);
+				fail();
+			} catch (IllegalArgumentException e) {
+				assertEquals("Cannot find file.", e.getMessage());
+			}
+		}
+	}
+	
 	/**
 	 * Test WolfScheduler.getCourseFromCatalog().
 	 */
@@ -107,6 +137,233 @@ public class WolfSchedulerTest {
 		assertEquals(c, ws.getCourseFromCatalog("CSC 216", "001"));
 	}
 	
+	/**
+	 * Test WolfScheduler.getCourseCatalog() for a department and number range.
+	 */
+	@Test
+	public void testGetCourseCatalogRange() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		
+		String [][] csc = ws.getCourseCatalog("CSC");
+		assertEquals(13, csc.length);
+		assertEquals("CSC 116", csc[0][0]);
+		assertEquals("001", csc[0][1]);
+		assertEquals("CSC 316", csc[12][0]);
+		
+		String [][] csc2xx = ws.getCourseCatalog("CSC", 200, 299);
+		assertEquals(9, csc2xx.length);
+		assertEquals("CSC 216", csc2xx[0][0]);
+		assertEquals("001", csc2xx[0][1]);
+		assertEquals("CSC 230", csc2xx[8][0]);
+		
+		assertEquals(0, ws.getCourseCatalog("MA").length);
+		assertEquals(0, ws.getCourseCatalog("CSC", 400, 499).length);
+	}
+	
+	/**
+	 * Test WolfScheduler.getInstructorSections().
+	 */
+	@Test
+	public void testGetInstructorSections() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		
+		List<Course> sesmith5 = ws.getInstructorSections("sesmith5");
+		assertEquals(5, sesmith5.size());
+		assertEquals("CSC 216", sesmith5.get(0).getName());
+		assertEquals("001", sesmith5.get(0).getSection());
+		assertEquals("CSC 217", sesmith5.get(4).getName());
+		assertEquals("601", sesmith5.get(4).getSection());
+		assertSame(ws.getCourseFromCatalog("CSC 216", "001"), sesmith5.get(0));
+		
+		//jtking's CSC 116-002 is a duplicate of spbalik's, so only CSC 316 is indexed
+		assertEquals(1, ws.getInstructorSections("spbalik").size());
+		assertEquals(1, ws.getInstructorSections("jtking").size());
+		assertEquals("CSC 316", ws.getInstructorSections("jtking").get(0).getName());
+		assertEquals(0, ws.getInstructorSections("nobody").size());
+		
+		try {
+			sesmith5.clear();
+			fail();
+		} catch (UnsupportedOperationException e) {
+			assertEquals(5, ws.getInstructorSections("sesmith5").size());
+		}
+	}
+	
+	/**
+	 * Test the WolfScheduler time slot queries.
+	 */
+	@Test
+	public void testTimeSlotQueries() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		
+		String [][] thursday = ws.getCourseCatalogMeetingAt('H', 1200);
+		assertEquals(1, thursday.length);
+		assertEquals("CSC 116", thursday[0][0]);
+		assertEquals("003", thursday[0][1]);
+		
+		String [][] afternoon = ws.getCourseCatalogWithin("MW", 1300, 1700);
+		assertEquals(2, afternoon.length);
+		assertEquals("CSC 216", afternoon[0][0]);
+		assertEquals("CSC 217", afternoon[1][0]);
+		
+		String [][] arranged = ws.getArrangedCourseCatalog();
+		assertEquals(2, arranged.length);
+		assertEquals("CSC 216", arranged[0][0]);
+		assertEquals("601", arranged[0][1]);
+		assertEquals("CSC 217", arranged[1][0]);
+	}
+	
+	/**
+	 * Test WolfScheduler.searchCourseCatalog().
+	 */
+	@Test
+	public void testSearchCourseCatalog() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		
+		String [][] software = ws.searchCourseCatalog("software");
+		assertEquals(8, software.length);
+		assertEquals("CSC 216", software[0][0]);
+		assertEquals("CSC 230", software[7][0]);
+		
+		String [][] discrete = ws.searchCourseCatalog("Discrete");
+		assertEquals(1, discrete.length);
+		assertEquals("CSC 226", discrete[0][0]);
+		
+		assertEquals(0, ws.searchCourseCatalog("quantum").length);
+	}
+	
+	/**
+	 * Test WolfScheduler.getCourseCatalogThatFits().
+	 */
+	@Test
+	public void testGetCourseCatalogThatFits() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		assertEquals(13, ws.getCourseCatalogThatFits().length);
+		
+		//Enrolling in CSC 216 rules out all three of its sections
+		assertTrue(ws.addCourseToSchedule("CSC 216", "001"));
+		//CSC 226 meets MWF 935-1025, which rules out CSC 116-001 and CSC 316
+		assertTrue(ws.addCourseToSchedule("CSC 226", "001"));
+		
+		String [][] fits = ws.getCourseCatalogThatFits();
+		assertEquals(7, fits.length);
+		assertEquals("CSC 116", fits[0][0]);
+		assertEquals("002", fits[0][1]);
+		assertEquals("CSC 116", fits[1][0]);
+		assertEquals("003", fits[1][1]);
+		for (String [] row : fits) {
+			assertNotEquals("CSC 216", row[0]);
+			assertNotEquals("CSC 226", row[0]);
+			for (String [] scheduled : ws.getScheduledActivities()) {
+				try {
+					ws.getCourseFromCatalog(scheduled[0], scheduled[1])
+							.checkConflict(ws.getCourseFromCatalog(row[0], row[1]));
+				} catch (ConflictException e) {
+					fail();
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Test WolfScheduler.getCourseCatalogPage().
+	 */
+	@Test
+	public void testGetCourseCatalogPage() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		
+		//Every sort key covers the whole catalog
+		for (CatalogSortKey key : CatalogSortKey.values()) {
+			assertEquals(13, ws.getCourseCatalogPage(key, 0, 100).length);
+		}
+		
+		String [][] byName = ws.getCourseCatalogPage(CatalogSortKey.NAME, 3, 2);
+		assertEquals(2, byName.length);
+		assertEquals("CSC 216", byName[0][0]);
+		assertEquals("001", byName[0][1]);
+		assertEquals("CSC 216", byName[1][0]);
+		assertEquals("002", byName[1][1]);
+		
+		String [][] byTitle = ws.getCourseCatalogPage(CatalogSortKey.TITLE, 0, 1);
+		assertEquals("CSC 230", byTitle[0][0]);
+		
+		//Arranged courses start at 0, then CSC 217-211 at 830 ties CSC 316 and wins on name
+		String [][] byStart = ws.getCourseCatalogPage(CatalogSortKey.START_TIME, 0, 4);
+		assertEquals("CSC 216", byStart[0][0]);
+		assertEquals("601", byStart[0][1]);
+		assertEquals("CSC 217", byStart[1][0]);
+		assertEquals("601", byStart[1][1]);
+		assertEquals("CSC 217", byStart[2][0]);
+		assertEquals("211", byStart[2][1]);
+		assertEquals("CSC 316", byStart[3][0]);
+		
+		String [][] byCredits = ws.getCourseCatalogPage(CatalogSortKey.CREDITS, 0, 4);
+		assertEquals("CSC 217", byCredits[0][0]);
+		assertEquals("CSC 217", byCredits[3][0]);
+		
+		String [][] byInstructor = ws.getCourseCatalogPage(CatalogSortKey.INSTRUCTOR, 12, 5);
+		assertEquals(1, byInstructor.length);
+		assertEquals("CSC 226", byInstructor[0][0]);
+		
+		assertEquals(0, ws.getCourseCatalogPage(CatalogSortKey.NAME, 13, 5).length);
+		assertEquals(0, ws.getCourseCatalogPage(CatalogSortKey.NAME, 0, 0).length);
+		assertEquals(13, ws.getCourseCatalogPage(CatalogSortKey.NAME, 0, Integer.MAX_VALUE).length);
+		
+		try {
+			ws.getCourseCatalogPage(null, 0, 5);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid sort key.", e.getMessage());
+		}
+		try {
+			ws.getCourseCatalogPage(CatalogSortKey.NAME, -1, 5);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid page.", e.getMessage());
+		}
+	}
+	
+	/**
+	 * Test WolfScheduler.getCompletions().
+	 */
+	@Test
+	public void testGetCompletions() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		
+		assertArrayEquals(new String [] {"CSC 216", "CSC 217", "CSC 226", "CSC 230"}, ws.getCompletions("csc 2", 10));
+		assertArrayEquals(new String [] {"CSC 216", "CSC 217"}, ws.getCompletions("CSC 2", 2));
+		assertArrayEquals(new String [] {"Software Development Fundamentals", 
+				"Software Development Fundamentals Lab"}, ws.getCompletions("SOFT", 5));
+		assertArrayEquals(new String [] {"C and Software Tools"}, ws.getCompletions("c ", 5));
+		assertEquals(12, ws.getCompletions("", 100).length);
+		assertEquals(0, ws.getCompletions("xyz", 5).length);
+		assertEquals(0, ws.getCompletions("CSC", 0).length);
+		assertEquals(0, ws.getCompletions(null, 5).length);
+	}
+	
+	/**
+	 * Test WolfScheduler.queryCourseCatalog().
+	 */
+	@Test
+	public void testQueryCourseCatalog() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		
+		String [][] found = ws.queryCourseCatalog("dept=CSC credits>=3 days~MW start>=0900");
+		assertEquals(5, found.length);
+		assertEquals("CSC 116", found[0][0]);
+		assertEquals("001", found[0][1]);
+		assertEquals("CSC 230", found[4][0]);
+		
+		assertEquals(1, ws.queryCourseCatalog("instructor=sesmith5 days=TH").length);
+		
+		try {
+			ws.queryCourseCatalog("credits>=three");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid query.", e.getMessage());
+		}
+	}
+	
 	/**
 	 * Test WolfScheduler.addCourse().
 	 */
@@ -119,6 +376,10 @@ public class WolfSchedulerTest {
 		assertEquals(0, ws.getScheduledActivities().length);
 		assertEquals(0, ws.getFullScheduledActivities().length);
 		
+		//Attempt to add a section that doesn't exist of a course that does
+		assertFalse(ws.addCourseToSchedule(NAME, "009"));
+		assertEquals(0, ws.getScheduledActivities().length);
+		
 		Activity c = new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME);
 		
 		//Attempt to add a course that does exist
@@ -152,6 +413,15 @@ public class WolfSchedulerTest {
 		}
 		
 		assertEquals(2, ws.getScheduledActivities().length);
+		
+		//A removed course can be added again, and no longer blocks conflicting courses
+		assertTrue(ws.removeActivityFromSchedule(0));
+		assertTrue(ws.addCourseToSchedule(NAME, "002"));
+		assertEquals(2, ws.getScheduledActivities().length);
+		
+		//An arranged course never conflicts
+		assertTrue(ws.addCourseToSchedule("CSC 217", "601"));
+		assertEquals(3, ws.getScheduledActivities().length);
 	}
 	
 	/**
@@ -455,6 +725,182 @@ public class WolfSchedulerTest {
 		checkFiles("test-files/expected_schedule_export.txt", "test-files/actual_schedule_export.txt");
 	}
 	
+	/**
+	 * Tests WolfScheduler.reloadCatalog().
+	 * 
+	 * @throws IOException if the temporary catalog cannot be written
+	 */
+	@Test
+	public void testReloadCatalog() throws IOException {
+		Path catalogFile = Files.createTempFile("course_records", ".txt");
+		Files.copy(FileSystems.getDefault().getPath(validTestFile), catalogFile, StandardCopyOption.REPLACE_EXISTING);
+		WolfScheduler ws = new WolfScheduler(catalogFile.toString());
+		assertTrue(ws.addCourseToSchedule("CSC 116", "003"));
+		Course unchanged = ws.getCourseFromCatalog("CSC 226", "001");
+		
+		//Remove CSC 116-003, change CSC 216-001, and add CSC 492-001
+		List<String> lines = new ArrayList<String>();
+		for (String line : Files.readAllLines(catalogFile)) {
+			if (line.startsWith("CSC 116,Intro to Programming - Java,003")) {
+				continue;
+			}
+			lines.add(line.replace("CSC 216,Software Development Fundamentals,001,3,sesmith5", 
+					"CSC 216,Software Development Fundamentals,001,3,jctetter"));
+		}
+		lines.add("CSC 492,Senior Design,001,3,cgates,MW,1500,1615");
+		Files.write(catalogFile, lines);
+		
+		CatalogDiff diff = ws.reloadCatalog();
+		assertEquals(1, diff.getAdded().size());
+		assertEquals("CSC 492", diff.getAdded().get(0).getName());
+		assertEquals(1, diff.getRemoved().size());
+		assertEquals("003", diff.getRemoved().get(0).getSection());
+		assertEquals(1, diff.getChanged().size());
+		assertEquals("jctetter", diff.getChanged().get(0).getInstructorId());
+		assertEquals(1, diff.getRemovedFromSchedule().size());
+		assertEquals("CSC 116", diff.getRemovedFromSchedule().get(0).getName());
+		
+		assertEquals(13, ws.getCourseCatalog().length);
+		assertNull(ws.getCourseFromCatalog("CSC 116", "003"));
+		assertEquals("jctetter", ws.getCourseFromCatalog("CSC 216", "001").getInstructorId());
+		assertSame(unchanged, ws.getCourseFromCatalog("CSC 226", "001"));
+		assertEquals(1, ws.getScheduledActivities().length);
+		
+		//Reloading the same file changes nothing
+		String [][] before = ws.getCourseCatalog();
+		assertFalse(ws.reloadCatalog().hasChanges());
+		assertArrayEquals(before, ws.getCourseCatalog());
+		
+		//Moving CSC 492-001 to the top changes only the order
+		lines.add(0, lines.remove(lines.size() - 1));
+		Files.write(catalogFile, lines);
+		assertFalse(ws.reloadCatalog().hasChanges());
+		assertEquals("CSC 492", ws.getCourseCatalog()[0][0]);
+		assertSame(unchanged, ws.getCourseFromCatalog("CSC 226", "001"));
+		
+		Files.delete(catalogFile);
+		try {
+			ws.reloadCatalog();
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Cannot find file.", e.getMessage());
+		}
+		assertEquals(13, ws.getCourseCatalog().length);
+	}
+	
+	/**
+	 * Tests WolfScheduler.watchCatalog().
+	 * 
+	 * @throws Exception if the temporary catalog cannot be written or the test is interrupted
+	 */
+	@Test
+	public void testWatchCatalog() throws Exception {
+		Path directory = Files.createTempDirectory("catalog");
+		Path catalogFile = directory.resolve("course_records.txt");
+		Files.copy(FileSystems.getDefault().getPath(validTestFile), catalogFile);
+		WolfScheduler ws = new WolfScheduler(catalogFile.toString());
+		
+		BlockingQueue<CatalogDiff> reloads = new LinkedBlockingQueue<CatalogDiff>();
+		// A listener that throws must not stop the watcher
+		ws.watchCatalog(d -> {
+			reloads.add(d);
+			throw new IllegalStateException();
+		});
+		
+		List<String> lines = new ArrayList<String>(Files.readAllLines(catalogFile));
+		lines.add("CSC 492,Senior Design,001,3,cgates,MW,1500,1615");
+		Files.write(catalogFile, lines);
+		
+		CatalogDiff diff = reloads.poll(10, TimeUnit.SECONDS);
+		assertNotNull(diff);
+		assertEquals(1, diff.getAdded().size());
+		assertEquals(14, ws.getCourseCatalog().length);
+		
+		lines.add("CSC 493,Senior Design II,001,3,cgates,TH,1500,1615");
+		Files.write(catalogFile, lines);
+		
+		// Skip any late reload of the first change
+		do {
+			diff = reloads.poll(10, TimeUnit.SECONDS);
+			assertNotNull(diff);
+		} while (diff.getAdded().isEmpty());
+		assertEquals(1, diff.getAdded().size());
+		assertEquals(15, ws.getCourseCatalog().length);
+		ws.stopWatchingCatalog();
+		
+		Files.delete(catalogFile);
+		Files.delete(directory);
+	}
+	
+	/**
+	 * Test WolfScheduler.getScheduleConflicts().
+	 */
+	@Test
+	public void testGetScheduleConflicts() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		assertTrue(ws.addCourseToSchedule("CSC 216", "001"));
+		assertTrue(ws.addCourseToSchedule("CSC 116", "001"));
+		ws.addEventToSchedule("Lunch", "MWF", 1120, 1200, "");
+		
+		String [][] conflicts = ws.getScheduleConflicts("MTWHF", 1100, 1330);
+		assertEquals(3, conflicts.length);
+		assertEquals("CSC 116", conflicts[0][0]);
+		assertEquals("Lunch", conflicts[1][2]);
+		assertEquals("CSC 216", conflicts[2][0]);
+		
+		assertEquals(1, ws.getScheduleConflicts("F", 1200, 1300).length);
+		assertEquals(0, ws.getScheduleConflicts("F", 1101, 1119).length);
+		assertEquals(0, ws.getScheduleConflicts("SU", 800, 2000).length);
+		assertEquals(0, ws.getScheduleConflicts("M", 0, 2000).length);
+		
+		// Removing an Activity removes its conflicts
+		assertTrue(ws.removeActivityFromSchedule(1));
+		assertEquals(2, ws.getScheduleConflicts("MTWHF", 1100, 1330).length);
+		
+		// The time CSC 116 took is free again
+		ws.addEventToSchedule("Study", "M", 1000, 1030, "");
+		conflicts = ws.getScheduleConflicts("M", 1030, 1120);
+		assertEquals(2, conflicts.length);
+		assertEquals("Study", conflicts[0][2]);
+		assertEquals("Lunch", conflicts[1][2]);
+		
+		try {
+			ws.getScheduleConflicts("X", 800, 900);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid meeting days and times.", e.getMessage());
+		}
+	}
+	
+	/**
+	 * Test WolfScheduler.doSectionsConflict() and getConflictingSections().
+	 */
+	@Test
+	public void testSectionConflicts() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		
+		assertTrue(ws.doSectionsConflict("CSC 116", "001", "CSC 316", "001"));
+		assertTrue(ws.doSectionsConflict("CSC 316", "001", "CSC 116", "001"));
+		assertTrue(ws.doSectionsConflict("CSC 116", "001", "CSC 226", "001"));
+		assertFalse(ws.doSectionsConflict("CSC 116", "001", "CSC 216", "001"));
+		assertFalse(ws.doSectionsConflict("CSC 116", "001", "CSC 116", "002"));
+		assertFalse(ws.doSectionsConflict("CSC 217", "601", "CSC 217", "601"));
+		assertFalse(ws.doSectionsConflict("CSC 116", "001", "CSC 492", "001"));
+		
+		String [][] conflicts = ws.getConflictingSections("CSC 116", "001");
+		assertEquals(3, conflicts.length);
+		ArrayList<String> names = new ArrayList<String>();
+		for (String [] c : conflicts) {
+			names.add(c[0] + "-" + c[1]);
+		}
+		assertTrue(names.contains("CSC 217-202"));
+		assertTrue(names.contains("CSC 226-001"));
+		assertTrue(names.contains("CSC 316-001"));
+		
+		assertEquals(0, ws.getConflictingSections("CSC 217", "601").length);
+		assertEquals(0, ws.getConflictingSections("CSC 492", "001").length);
+	}
+	
 	/**
 	 * Helper method to compare two files for the same contents
 	 * @param expFile expected output